@@ -0,0 +1,56 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InputSanitizerBenchmark {
+
+    private static final String PLAIN_SUMMARY = """
+            Full-stack developer focused on Java and Spring Boot back ends and React front ends.
+            I enjoy turning fuzzy requirements into small, well-tested services, and I care about
+            clear APIs, sensible database schemas and fast pages. Outside of work I contribute to
+            open source tools and write about what I learn.""";
+
+    private static final String MARKUP_SUMMARY = """
+            <p>Desarrollador <b>full-stack</b> centrado en back ends con Java y Spring Boot.</p>
+            <script>alert('xss')</script>Me gusta convertir requisitos difusos en servicios pequeños
+            y bien probados.\u0007 Me importan las APIs claras, los esquemas de base de datos sensatos
+            y las páginas rápidas. <a href="https://example.com">Blog</a>""";
+
+    @Param({"plain", "markup"})
+    public String text;
+
+    private final InputSanitizer sanitizer = new InputSanitizer();
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = "plain".equals(text) ? PLAIN_SUMMARY : MARKUP_SUMMARY;
+    }
+
+    @Benchmark
+    public String sanitize() {
+        return sanitizer.sanitize(input);
+    }
+
+    @Benchmark
+    public boolean containsSqlInjection() {
+        return sanitizer.containsSqlInjection(input);
+    }
+
+    @Benchmark
+    public String sanitizeUrl() {
+        return sanitizer.sanitizeUrl("  https://github.com/gonzalomartinez/portfolio  ");
+    }
+}
@@ -0,0 +1,53 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256-signing";
+    private static final long ONE_HOUR = 3_600_000L;
+
+    private JwtService cachingService;
+    private JwtService uncachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingService = new JwtService(SECRET, ONE_HOUR, new VerifiedTokenCache(1024), new SimpleMeterRegistry());
+        // A zero-sized cache never stores anything, so every call pays full verification
+        uncachedService = new JwtService(SECRET, ONE_HOUR, new VerifiedTokenCache(0), new SimpleMeterRegistry());
+        token = cachingService.generateToken("admin");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingService.generateToken("admin");
+    }
+
+    @Benchmark
+    public VerifiedToken verifyUncached() {
+        return uncachedService.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cachingService.verify(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return uncachedService.validateToken(token, "admin");
+    }
+}
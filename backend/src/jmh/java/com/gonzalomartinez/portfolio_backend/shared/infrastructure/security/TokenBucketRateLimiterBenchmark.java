@@ -0,0 +1,92 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenBucketRateLimiterBenchmark {
+
+    // Large enough that the benchmark measures the bucket itself rather than rejections
+    private static final int CAPACITY = 1_000_000_000;
+    private static final int REFILL_RATE = 1_000_000_000;
+    private static final int COLD_KEYS_PER_THREAD = 4_096;
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private TokenBucketRateLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketRateLimiter(new RateLimitProperties(), new SimpleMeterRegistry());
+    }
+
+    // Each thread rotates through its own keys, so most calls hit a bucket that has gone cold
+    @State(Scope.Thread)
+    public static class ColdKeys {
+        private final String[] keys = new String[COLD_KEYS_PER_THREAD];
+        private int next;
+
+        @Setup
+        public void setUp() {
+            int thread = THREAD_IDS.incrementAndGet();
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = "public:10." + thread + "." + (i >> 8) + "." + (i & 0xFF);
+            }
+        }
+
+        String next() {
+            String key = keys[next];
+            next = (next + 1) & (keys.length - 1);
+            return key;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean hotKey_1Thread() {
+        return limiter.tryConsume("public:203.0.113.7", CAPACITY, REFILL_RATE);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean hotKey_8Threads() {
+        return limiter.tryConsume("public:203.0.113.7", CAPACITY, REFILL_RATE);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean hotKey_64Threads() {
+        return limiter.tryConsume("public:203.0.113.7", CAPACITY, REFILL_RATE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean coldKeys_1Thread(ColdKeys keys) {
+        return limiter.tryConsume(keys.next(), CAPACITY, REFILL_RATE);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean coldKeys_8Threads(ColdKeys keys) {
+        return limiter.tryConsume(keys.next(), CAPACITY, REFILL_RATE);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean coldKeys_64Threads(ColdKeys keys) {
+        return limiter.tryConsume(keys.next(), CAPACITY, REFILL_RATE);
+    }
+}
@@ -1,13 +1,20 @@
 package com.gonzalomartinez.portfolio_backend.experience.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.experience.domain.Experience;
 import com.gonzalomartinez.portfolio_backend.experience.domain.ExperienceRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.shared.application.SanitizerPort;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -22,10 +29,18 @@ public class ExperienceUseCaseService implements ManageExperienceUseCase {
     
     private final ExperienceRepositoryPort experienceRepository;
     private final SanitizerPort inputSanitizer;
+    private final GetPortfolioSnapshotUseCase portfolioSnapshot;
+    private final PortfolioChangeNotifierPort changeNotifier;
 
-    public ExperienceUseCaseService(ExperienceRepositoryPort experienceRepository, SanitizerPort inputSanitizer) {
+    public ExperienceUseCaseService(
+            ExperienceRepositoryPort experienceRepository,
+            SanitizerPort inputSanitizer,
+            GetPortfolioSnapshotUseCase portfolioSnapshot,
+            PortfolioChangeNotifierPort changeNotifier) {
         this.experienceRepository = experienceRepository;
         this.inputSanitizer = inputSanitizer;
+        this.portfolioSnapshot = portfolioSnapshot;
+        this.changeNotifier = changeNotifier;
     }
 
     @Override
@@ -36,6 +51,24 @@ public class ExperienceUseCaseService implements ManageExperienceUseCase {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ExperienceDto> getPublishedExperiences() {
+        return portfolioSnapshot.getSnapshot().experiences()
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LocalizedExperienceDto> getPublishedExperiences(ContentLanguage language) {
+        return portfolioSnapshot.getSnapshot().experiences()
+                .stream()
+                .map(experience -> convertToLocalizedDto(experience, language))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public ExperienceDto getExperienceById(UUID id) {
         Experience experience = experienceRepository.findById(id)
@@ -51,6 +84,7 @@ public class ExperienceUseCaseService implements ManageExperienceUseCase {
         Experience experience = convertToEntity(dto, null);
         
         Experience savedExperience = experienceRepository.save(experience);
+        changeNotifier.sectionChanged(PortfolioSection.EXPERIENCES);
         log.info("Created experience: {} at {} (ID: {})", 
                 savedExperience.positionEn(), savedExperience.companyEn(), savedExperience.id());
         
@@ -62,13 +96,9 @@ public class ExperienceUseCaseService implements ManageExperienceUseCase {
     public ExperienceDto updateExperience(UUID id, ExperienceDto dto) {
         validateDates(dto);
         
-        if (!experienceRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Experience", "id", id);
-        }
-        
-        Experience updatedExperience = convertToEntity(dto, id);
-        
-        Experience savedExperience = experienceRepository.save(updatedExperience);
+        Experience savedExperience = experienceRepository.update(convertToEntity(dto, id))
+                .orElseThrow(() -> new ResourceNotFoundException("Experience", "id", id));
+        changeNotifier.sectionChanged(PortfolioSection.EXPERIENCES);
         log.info("Updated experience: {} at {} (ID: {})", 
                 savedExperience.positionEn(), savedExperience.companyEn(), savedExperience.id());
         
@@ -78,14 +108,48 @@ public class ExperienceUseCaseService implements ManageExperienceUseCase {
     @Override
     @Transactional
     public void deleteExperience(UUID id) {
-        if (!experienceRepository.existsById(id)) {
+        if (!experienceRepository.deleteById(id)) {
             throw new ResourceNotFoundException("Experience", "id", id);
         }
-        
-        experienceRepository.deleteById(id);
+        changeNotifier.sectionChanged(PortfolioSection.EXPERIENCES);
         log.info("Deleted experience with ID: {}", id);
     }
 
+    @Override
+    @Transactional
+    public BatchResult<ExperienceDto> applyExperienceBatch(BatchRequest<ExperienceDto> batch) {
+        batch.requireDistinctIds(ExperienceDto::id);
+        batch.create().forEach(this::validateDates);
+        batch.update().forEach(this::validateDates);
+
+        List<UUID> deleted = experienceRepository.deleteAllById(batch.delete());
+        if (deleted.size() < batch.delete().size()) {
+            throw new ResourceNotFoundException("Experience", "id", batch.missingDeletes(deleted));
+        }
+
+        List<Experience> updated = experienceRepository.updateAll(batch.update().stream()
+                .map(dto -> convertToEntity(dto, dto.id()))
+                .toList());
+        if (updated.size() < batch.update().size()) {
+            throw new ResourceNotFoundException("Experience", "id",
+                    batch.firstMissingUpdate(ExperienceDto::id, updated.stream().map(Experience::id).toList()));
+        }
+
+        List<Experience> created = experienceRepository.saveAll(batch.create().stream()
+                .map(dto -> convertToEntity(dto, null))
+                .toList());
+
+        if (!batch.isEmpty()) {
+            changeNotifier.sectionChanged(PortfolioSection.EXPERIENCES);
+        }
+        log.info("Applied experience batch: {} created, {} updated, {} deleted", created.size(), updated.size(), deleted.size());
+
+        return new BatchResult<>(
+                created.stream().map(this::convertToDto).collect(Collectors.toList()),
+                updated.stream().map(this::convertToDto).collect(Collectors.toList()),
+                deleted.size());
+    }
+
     private void validateDates(ExperienceDto dto) {
         if (dto.endDate() != null && dto.startDate().isAfter(dto.endDate())) {
             throw new IllegalArgumentException("End date cannot be before start date");
@@ -107,6 +171,18 @@ public class ExperienceUseCaseService implements ManageExperienceUseCase {
         );
     }
 
+    private LocalizedExperienceDto convertToLocalizedDto(Experience experience, ContentLanguage language) {
+        return new LocalizedExperienceDto(
+                experience.id(),
+                language.select(experience.companyEn(), experience.companyEs()),
+                language.select(experience.positionEn(), experience.positionEs()),
+                experience.startDate(),
+                experience.endDate(),
+                language.select(experience.descriptionEn(), experience.descriptionEs()),
+                experience.technologies()
+        );
+    }
+
     private Experience convertToEntity(ExperienceDto dto, UUID id) {
         return new Experience(
                 id,
@@ -0,0 +1,15 @@
+package com.gonzalomartinez.portfolio_backend.experience.application;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record LocalizedExperienceDto(
+    UUID id,
+    String company,
+    String position,
+    LocalDate startDate,
+    LocalDate endDate,
+    String description,
+    List<String> technologies
+) {}
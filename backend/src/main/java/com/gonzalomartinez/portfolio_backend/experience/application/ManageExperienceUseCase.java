@@ -1,12 +1,19 @@
 package com.gonzalomartinez.portfolio_backend.experience.application;
 
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
+
 import java.util.List;
 import java.util.UUID;
 
 public interface ManageExperienceUseCase {
     List<ExperienceDto> getAllExperiences();
+    List<ExperienceDto> getPublishedExperiences();
+    List<LocalizedExperienceDto> getPublishedExperiences(ContentLanguage language);
     ExperienceDto getExperienceById(UUID id);
     ExperienceDto createExperience(ExperienceDto dto);
     ExperienceDto updateExperience(UUID id, ExperienceDto dto);
     void deleteExperience(UUID id);
+    BatchResult<ExperienceDto> applyExperienceBatch(BatchRequest<ExperienceDto> batch);
 }
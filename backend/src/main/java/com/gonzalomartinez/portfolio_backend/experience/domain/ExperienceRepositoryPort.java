@@ -1,5 +1,6 @@
 package com.gonzalomartinez.portfolio_backend.experience.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,6 +9,10 @@ public interface ExperienceRepositoryPort {
     List<Experience> findAllByOrderByEndDateDescStartDateDesc();
     Optional<Experience> findById(UUID id);
     Experience save(Experience experience);
-    void deleteById(UUID id);
+    Optional<Experience> update(Experience experience);
+    boolean deleteById(UUID id);
+    List<Experience> saveAll(List<Experience> experiences);
+    List<Experience> updateAll(List<Experience> experiences);
+    List<UUID> deleteAllById(Collection<UUID> ids);
     boolean existsById(UUID id);
 }
@@ -2,6 +2,8 @@ package com.gonzalomartinez.portfolio_backend.experience.infrastructure.adapter.
 
 import com.gonzalomartinez.portfolio_backend.experience.application.ExperienceDto;
 import com.gonzalomartinez.portfolio_backend.experience.application.ManageExperienceUseCase;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -50,4 +52,9 @@ public class AdminExperienceController {
         experienceUseCase.deleteExperience(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult<ExperienceDto>> applyExperienceBatch(@Valid @RequestBody BatchRequest<ExperienceDto> batch) {
+        return ResponseEntity.ok(experienceUseCase.applyExperienceBatch(batch));
+    }
 }
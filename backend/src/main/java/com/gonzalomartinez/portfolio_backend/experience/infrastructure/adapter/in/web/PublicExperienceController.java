@@ -1,26 +1,31 @@
 package com.gonzalomartinez.portfolio_backend.experience.infrastructure.adapter.in.web;
 
-import com.gonzalomartinez.portfolio_backend.experience.application.ExperienceDto;
 import com.gonzalomartinez.portfolio_backend.experience.application.ManageExperienceUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.web.PublishedResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/public/experiences")
 public class PublicExperienceController {
 
     private final ManageExperienceUseCase experienceUseCase;
+    private final PublishedResponseCache responseCache;
 
-    public PublicExperienceController(ManageExperienceUseCase experienceUseCase) {
+    public PublicExperienceController(ManageExperienceUseCase experienceUseCase, PublishedResponseCache responseCache) {
         this.experienceUseCase = experienceUseCase;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<List<ExperienceDto>> getAllExperiences() {
-        return ResponseEntity.ok(experienceUseCase.getAllExperiences());
+    public ResponseEntity<byte[]> getAllExperiences(
+            @RequestParam(required = false) String lang,
+            HttpServletRequest request) {
+        return responseCache.respond("experiences", lang, request,
+                experienceUseCase::getPublishedExperiences, experienceUseCase::getPublishedExperiences);
     }
 }
@@ -1,6 +1,10 @@
 package com.gonzalomartinez.portfolio_backend.experience.infrastructure.adapter.out.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -10,6 +14,7 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "experiences")
 @Table(name = "experiences")
 public class ExperienceEntity {
 
@@ -41,7 +46,9 @@ public class ExperienceEntity {
     @Column(columnDefinition = "TEXT")
     private String descriptionEs;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "experiences")
     @ElementCollection(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @CollectionTable(name = "experience_technologies", joinColumns = @JoinColumn(name = "experience_id"))
     @Column(name = "technology")
     private List<String> technologies = new ArrayList<>();
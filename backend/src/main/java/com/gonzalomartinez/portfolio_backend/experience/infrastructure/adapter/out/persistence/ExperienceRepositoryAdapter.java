@@ -2,11 +2,16 @@ package com.gonzalomartinez.portfolio_backend.experience.infrastructure.adapter.
 
 import com.gonzalomartinez.portfolio_backend.experience.domain.Experience;
 import com.gonzalomartinez.portfolio_backend.experience.domain.ExperienceRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.persistence.ElementCollections;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -39,8 +44,53 @@ public class ExperienceRepositoryAdapter implements ExperienceRepositoryPort {
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaExperienceRepository.deleteById(id);
+    public Optional<Experience> update(Experience experience) {
+        return jpaExperienceRepository.findById(experience.id()).map(entity -> {
+            applyTo(entity, experience);
+            return toDomain(entity);
+        });
+    }
+
+    @Override
+    public boolean deleteById(UUID id) {
+        return jpaExperienceRepository.removeById(id) > 0;
+    }
+
+    @Override
+    public List<Experience> saveAll(List<Experience> experiences) {
+        List<ExperienceEntity> entities = experiences.stream().map(this::toEntity).collect(Collectors.toList());
+        return jpaExperienceRepository.saveAll(entities)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Experience> updateAll(List<Experience> experiences) {
+        Map<UUID, ExperienceEntity> entities = jpaExperienceRepository.findAllById(experiences.stream().map(Experience::id).toList())
+                .stream()
+                .collect(Collectors.toMap(ExperienceEntity::getId, Function.identity()));
+        List<Experience> updated = new ArrayList<>();
+        for (Experience experience : experiences) {
+            ExperienceEntity entity = entities.get(experience.id());
+            if (entity != null) {
+                applyTo(entity, experience);
+                updated.add(toDomain(entity));
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public List<UUID> deleteAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> existing = jpaExperienceRepository.findIdsByIdIn(ids);
+        if (!existing.isEmpty()) {
+            jpaExperienceRepository.removeAllByIdIn(existing);
+        }
+        return existing;
     }
 
     @Override
@@ -48,6 +98,18 @@ public class ExperienceRepositoryAdapter implements ExperienceRepositoryPort {
         return jpaExperienceRepository.existsById(id);
     }
 
+    private void applyTo(ExperienceEntity entity, Experience experience) {
+        entity.setCompanyEn(experience.companyEn());
+        entity.setCompanyEs(experience.companyEs());
+        entity.setPositionEn(experience.positionEn());
+        entity.setPositionEs(experience.positionEs());
+        entity.setStartDate(experience.startDate());
+        entity.setEndDate(experience.endDate());
+        entity.setDescriptionEn(experience.descriptionEn());
+        entity.setDescriptionEs(experience.descriptionEs());
+        ElementCollections.replaceIfChanged(entity.getTechnologies(), experience.technologies());
+    }
+
     private Experience toDomain(ExperienceEntity entity) {
         return new Experience(
                 entity.getId(),
@@ -1,10 +1,16 @@
 package com.gonzalomartinez.portfolio_backend.experience.infrastructure.adapter.out.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,9 +18,21 @@ import java.util.UUID;
 @Repository
 public interface JpaExperienceRepository extends JpaRepository<ExperienceEntity, UUID> {
     @EntityGraph(attributePaths = {"technologies"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT e FROM ExperienceEntity e ORDER BY e.endDate DESC NULLS FIRST, e.startDate DESC")
     List<ExperienceEntity> findAllByOrderByEndDateDescStartDateDesc();
 
     @EntityGraph(attributePaths = {"technologies"})
     Optional<ExperienceEntity> findById(UUID id);
+
+    @Modifying
+    @Query("DELETE FROM ExperienceEntity e WHERE e.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    @Query("SELECT e.id FROM ExperienceEntity e WHERE e.id IN :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM ExperienceEntity e WHERE e.id IN :ids")
+    int removeAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,11 @@
+package com.gonzalomartinez.portfolio_backend.language.application;
+
+import java.util.UUID;
+
+public record LocalizedSpokenLanguageDto(
+    UUID id,
+    String name,
+    String level,
+    Integer proficiency,
+    Integer order
+) {}
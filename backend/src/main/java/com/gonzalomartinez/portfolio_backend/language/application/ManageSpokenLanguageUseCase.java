@@ -1,12 +1,21 @@
 package com.gonzalomartinez.portfolio_backend.language.application;
 
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
+
 import java.util.List;
 import java.util.UUID;
 
 public interface ManageSpokenLanguageUseCase {
     List<SpokenLanguageDto> getAllSpokenLanguages();
+    List<SpokenLanguageDto> getPublishedSpokenLanguages();
+    List<LocalizedSpokenLanguageDto> getPublishedSpokenLanguages(ContentLanguage language);
     SpokenLanguageDto getSpokenLanguageById(UUID id);
     SpokenLanguageDto createSpokenLanguage(SpokenLanguageDto dto);
     SpokenLanguageDto updateSpokenLanguage(UUID id, SpokenLanguageDto dto);
     void deleteSpokenLanguage(UUID id);
+    BatchResult<SpokenLanguageDto> applySpokenLanguageBatch(BatchRequest<SpokenLanguageDto> batch);
+    void reorderSpokenLanguages(ReorderRequest request);
 }
@@ -1,15 +1,25 @@
 package com.gonzalomartinez.portfolio_backend.language.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguage;
 import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguageRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.shared.application.SanitizerPort;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -22,10 +32,18 @@ public class SpokenLanguageUseCaseService implements ManageSpokenLanguageUseCase
 
     private final SpokenLanguageRepositoryPort spokenLanguageRepository;
     private final SanitizerPort inputSanitizer;
-
-    public SpokenLanguageUseCaseService(SpokenLanguageRepositoryPort spokenLanguageRepository, SanitizerPort inputSanitizer) {
+    private final GetPortfolioSnapshotUseCase portfolioSnapshot;
+    private final PortfolioChangeNotifierPort changeNotifier;
+
+    public SpokenLanguageUseCaseService(
+            SpokenLanguageRepositoryPort spokenLanguageRepository,
+            SanitizerPort inputSanitizer,
+            GetPortfolioSnapshotUseCase portfolioSnapshot,
+            PortfolioChangeNotifierPort changeNotifier) {
         this.spokenLanguageRepository = spokenLanguageRepository;
         this.inputSanitizer = inputSanitizer;
+        this.portfolioSnapshot = portfolioSnapshot;
+        this.changeNotifier = changeNotifier;
     }
 
     @Override
@@ -36,6 +54,24 @@ public class SpokenLanguageUseCaseService implements ManageSpokenLanguageUseCase
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SpokenLanguageDto> getPublishedSpokenLanguages() {
+        return portfolioSnapshot.getSnapshot().spokenLanguages()
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LocalizedSpokenLanguageDto> getPublishedSpokenLanguages(ContentLanguage language) {
+        return portfolioSnapshot.getSnapshot().spokenLanguages()
+                .stream()
+                .map(spokenLanguage -> convertToLocalizedDto(spokenLanguage, language))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public SpokenLanguageDto getSpokenLanguageById(UUID id) {
         SpokenLanguage language = spokenLanguageRepository.findById(id)
@@ -53,6 +89,7 @@ public class SpokenLanguageUseCaseService implements ManageSpokenLanguageUseCase
         }
 
         SpokenLanguage savedLanguage = spokenLanguageRepository.save(language);
+        changeNotifier.sectionChanged(PortfolioSection.SPOKEN_LANGUAGES);
         log.info("Created spoken language: {} (ID: {})", savedLanguage.nameEn(), savedLanguage.id());
 
         return convertToDto(savedLanguage);
@@ -61,13 +98,9 @@ public class SpokenLanguageUseCaseService implements ManageSpokenLanguageUseCase
     @Override
     @Transactional
     public SpokenLanguageDto updateSpokenLanguage(UUID id, SpokenLanguageDto dto) {
-        if (!spokenLanguageRepository.existsById(id)) {
-            throw new ResourceNotFoundException("SpokenLanguage", "id", id);
-        }
-
-        SpokenLanguage updatedLanguage = convertToEntity(dto, id);
-
-        SpokenLanguage savedLanguage = spokenLanguageRepository.save(updatedLanguage);
+        SpokenLanguage savedLanguage = spokenLanguageRepository.update(convertToEntity(dto, id))
+                .orElseThrow(() -> new ResourceNotFoundException("SpokenLanguage", "id", id));
+        changeNotifier.sectionChanged(PortfolioSection.SPOKEN_LANGUAGES);
         log.info("Updated spoken language: {} (ID: {})", savedLanguage.nameEn(), savedLanguage.id());
 
         return convertToDto(savedLanguage);
@@ -76,14 +109,69 @@ public class SpokenLanguageUseCaseService implements ManageSpokenLanguageUseCase
     @Override
     @Transactional
     public void deleteSpokenLanguage(UUID id) {
-        if (!spokenLanguageRepository.existsById(id)) {
+        if (!spokenLanguageRepository.deleteById(id)) {
             throw new ResourceNotFoundException("SpokenLanguage", "id", id);
         }
-
-        spokenLanguageRepository.deleteById(id);
+        changeNotifier.sectionChanged(PortfolioSection.SPOKEN_LANGUAGES);
         log.info("Deleted spoken language with ID: {}", id);
     }
 
+    @Override
+    @Transactional
+    public BatchResult<SpokenLanguageDto> applySpokenLanguageBatch(BatchRequest<SpokenLanguageDto> batch) {
+        batch.requireDistinctIds(SpokenLanguageDto::id);
+
+        List<UUID> deleted = spokenLanguageRepository.deleteAllById(batch.delete());
+        if (deleted.size() < batch.delete().size()) {
+            throw new ResourceNotFoundException("SpokenLanguage", "id", batch.missingDeletes(deleted));
+        }
+
+        List<SpokenLanguage> updated = spokenLanguageRepository.updateAll(batch.update().stream()
+                .map(dto -> convertToEntity(dto, dto.id()))
+                .toList());
+        if (updated.size() < batch.update().size()) {
+            throw new ResourceNotFoundException("SpokenLanguage", "id",
+                    batch.firstMissingUpdate(SpokenLanguageDto::id, updated.stream().map(SpokenLanguage::id).toList()));
+        }
+
+        List<SpokenLanguage> toCreate = new ArrayList<>();
+        Iterator<Integer> nextOrders = spokenLanguageRepository.nextOrders(
+                (int) batch.create().stream().filter(dto -> dto.order() == null).count()).iterator();
+        for (SpokenLanguageDto dto : batch.create()) {
+            SpokenLanguage language = convertToEntity(dto, null);
+            if (language.order() == null) {
+                language = language.withOrder(nextOrders.next());
+            }
+            toCreate.add(language);
+        }
+        List<SpokenLanguage> created = spokenLanguageRepository.saveAll(toCreate);
+
+        if (!batch.isEmpty()) {
+            changeNotifier.sectionChanged(PortfolioSection.SPOKEN_LANGUAGES);
+        }
+        log.info("Applied spoken language batch: {} created, {} updated, {} deleted", created.size(), updated.size(), deleted.size());
+
+        return new BatchResult<>(
+                created.stream().map(this::convertToDto).collect(Collectors.toList()),
+                updated.stream().map(this::convertToDto).collect(Collectors.toList()),
+                deleted.size());
+    }
+
+    @Override
+    @Transactional
+    public void reorderSpokenLanguages(ReorderRequest request) {
+        request.requireDistinctIds();
+        if (spokenLanguageRepository.count() != request.ids().size()) {
+            throw new IllegalArgumentException("Reorder must list every one of the spoken languages");
+        }
+        if (spokenLanguageRepository.reorder(request.ids()) < request.ids().size()) {
+            throw new ResourceNotFoundException("SpokenLanguage", "id",
+                    request.missingIds(spokenLanguageRepository.findExistingIds(request.ids())));
+        }
+        changeNotifier.sectionChanged(PortfolioSection.SPOKEN_LANGUAGES);
+        log.info("Reordered {} spoken languages", request.ids().size());
+    }
+
     private SpokenLanguageDto convertToDto(SpokenLanguage language) {
         return new SpokenLanguageDto(
                 language.id(),
@@ -96,6 +184,16 @@ public class SpokenLanguageUseCaseService implements ManageSpokenLanguageUseCase
         );
     }
 
+    private LocalizedSpokenLanguageDto convertToLocalizedDto(SpokenLanguage spokenLanguage, ContentLanguage language) {
+        return new LocalizedSpokenLanguageDto(
+                spokenLanguage.id(),
+                language.select(spokenLanguage.nameEn(), spokenLanguage.nameEs()),
+                language.select(spokenLanguage.levelEn(), spokenLanguage.levelEs()),
+                spokenLanguage.proficiency(),
+                spokenLanguage.order()
+        );
+    }
+
     private SpokenLanguage convertToEntity(SpokenLanguageDto dto, UUID id) {
         return new SpokenLanguage(
                 id,
@@ -109,7 +207,6 @@ public class SpokenLanguageUseCaseService implements ManageSpokenLanguageUseCase
     }
 
     private Integer getNextOrder() {
-        Integer maxOrder = spokenLanguageRepository.findMaxOrder();
-        return (maxOrder != null ? maxOrder : 0) + 1;
+        return spokenLanguageRepository.nextOrders(1).getFirst();
     }
 }
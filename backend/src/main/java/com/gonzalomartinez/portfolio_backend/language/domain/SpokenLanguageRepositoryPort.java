@@ -1,5 +1,6 @@
 package com.gonzalomartinez.portfolio_backend.language.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,7 +10,14 @@ public interface SpokenLanguageRepositoryPort {
     List<SpokenLanguage> findAll();
     Optional<SpokenLanguage> findById(UUID id);
     SpokenLanguage save(SpokenLanguage language);
-    void deleteById(UUID id);
+    Optional<SpokenLanguage> update(SpokenLanguage language);
+    boolean deleteById(UUID id);
+    List<SpokenLanguage> saveAll(List<SpokenLanguage> languages);
+    List<SpokenLanguage> updateAll(List<SpokenLanguage> languages);
+    List<UUID> deleteAllById(Collection<UUID> ids);
     boolean existsById(UUID id);
-    Integer findMaxOrder();
+    long count();
+    List<Integer> nextOrders(int count);
+    int reorder(List<UUID> orderedIds);
+    List<UUID> findExistingIds(Collection<UUID> ids);
 }
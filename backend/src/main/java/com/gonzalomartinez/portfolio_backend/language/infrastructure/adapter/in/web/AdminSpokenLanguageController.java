@@ -2,6 +2,9 @@ package com.gonzalomartinez.portfolio_backend.language.infrastructure.adapter.in
 
 import com.gonzalomartinez.portfolio_backend.language.application.SpokenLanguageDto;
 import com.gonzalomartinez.portfolio_backend.language.application.ManageSpokenLanguageUseCase;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -50,4 +53,15 @@ public class AdminSpokenLanguageController {
         spokenLanguageUseCase.deleteSpokenLanguage(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult<SpokenLanguageDto>> applySpokenLanguageBatch(@Valid @RequestBody BatchRequest<SpokenLanguageDto> batch) {
+        return ResponseEntity.ok(spokenLanguageUseCase.applySpokenLanguageBatch(batch));
+    }
+
+    @PutMapping("/order")
+    public ResponseEntity<Void> reorderSpokenLanguages(@Valid @RequestBody ReorderRequest request) {
+        spokenLanguageUseCase.reorderSpokenLanguages(request);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,26 +1,31 @@
 package com.gonzalomartinez.portfolio_backend.language.infrastructure.adapter.in.web;
 
-import com.gonzalomartinez.portfolio_backend.language.application.SpokenLanguageDto;
 import com.gonzalomartinez.portfolio_backend.language.application.ManageSpokenLanguageUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.web.PublishedResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/public/spoken-languages")
 public class PublicSpokenLanguageController {
 
     private final ManageSpokenLanguageUseCase spokenLanguageUseCase;
+    private final PublishedResponseCache responseCache;
 
-    public PublicSpokenLanguageController(ManageSpokenLanguageUseCase spokenLanguageUseCase) {
+    public PublicSpokenLanguageController(ManageSpokenLanguageUseCase spokenLanguageUseCase, PublishedResponseCache responseCache) {
         this.spokenLanguageUseCase = spokenLanguageUseCase;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<List<SpokenLanguageDto>> getAllSpokenLanguages() {
-        return ResponseEntity.ok(spokenLanguageUseCase.getAllSpokenLanguages());
+    public ResponseEntity<byte[]> getAllSpokenLanguages(
+            @RequestParam(required = false) String lang,
+            HttpServletRequest request) {
+        return responseCache.respond("spoken-languages", lang, request,
+                spokenLanguageUseCase::getPublishedSpokenLanguages, spokenLanguageUseCase::getPublishedSpokenLanguages);
     }
 }
@@ -1,16 +1,43 @@
 package com.gonzalomartinez.portfolio_backend.language.infrastructure.adapter.out.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JpaSpokenLanguageRepository extends JpaRepository<SpokenLanguageEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<SpokenLanguageEntity> findAllByOrderByOrderAsc();
 
-    @Query("SELECT MAX(s.order) FROM SpokenLanguageEntity s")
-    Integer findMaxOrder();
+    @Query(value = "SELECT nextval('spoken_languages_display_order_seq') FROM generate_series(1, :count)", nativeQuery = true)
+    List<Long> nextDisplayOrders(@Param("count") int count);
+
+    @Modifying
+    @Query(value = """
+            UPDATE spoken_languages t SET display_order = v.position
+            FROM unnest(CAST(:ids AS uuid[])) WITH ORDINALITY AS v(id, position)
+            WHERE t.id = v.id
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "spoken_languages"))
+    int reorder(@Param("ids") UUID[] ids);
+
+    @Modifying
+    @Query("DELETE FROM SpokenLanguageEntity s WHERE s.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    @Query("SELECT s.id FROM SpokenLanguageEntity s WHERE s.id IN :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM SpokenLanguageEntity s WHERE s.id IN :ids")
+    int removeAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -1,9 +1,12 @@
 package com.gonzalomartinez.portfolio_backend.language.infrastructure.adapter.out.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "spoken-languages")
 @Table(name = "spoken_languages")
 public class SpokenLanguageEntity {
 
@@ -4,9 +4,13 @@ import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguage;
 import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguageRepositoryPort;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -47,8 +51,53 @@ public class SpokenLanguageRepositoryAdapter implements SpokenLanguageRepository
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+    public Optional<SpokenLanguage> update(SpokenLanguage language) {
+        return jpaRepository.findById(language.id()).map(entity -> {
+            applyTo(entity, language);
+            return toDomain(entity);
+        });
+    }
+
+    @Override
+    public boolean deleteById(UUID id) {
+        return jpaRepository.removeById(id) > 0;
+    }
+
+    @Override
+    public List<SpokenLanguage> saveAll(List<SpokenLanguage> languages) {
+        List<SpokenLanguageEntity> entities = languages.stream().map(this::toEntity).collect(Collectors.toList());
+        return jpaRepository.saveAll(entities)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SpokenLanguage> updateAll(List<SpokenLanguage> languages) {
+        Map<UUID, SpokenLanguageEntity> entities = jpaRepository.findAllById(languages.stream().map(SpokenLanguage::id).toList())
+                .stream()
+                .collect(Collectors.toMap(SpokenLanguageEntity::getId, Function.identity()));
+        List<SpokenLanguage> updated = new ArrayList<>();
+        for (SpokenLanguage language : languages) {
+            SpokenLanguageEntity entity = entities.get(language.id());
+            if (entity != null) {
+                applyTo(entity, language);
+                updated.add(toDomain(entity));
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public List<UUID> deleteAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> existing = jpaRepository.findIdsByIdIn(ids);
+        if (!existing.isEmpty()) {
+            jpaRepository.removeAllByIdIn(existing);
+        }
+        return existing;
     }
 
     @Override
@@ -57,8 +106,35 @@ public class SpokenLanguageRepositoryAdapter implements SpokenLanguageRepository
     }
 
     @Override
-    public Integer findMaxOrder() {
-        return jpaRepository.findMaxOrder();
+    public long count() {
+        return jpaRepository.count();
+    }
+
+    @Override
+    public List<Integer> nextOrders(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        return jpaRepository.nextDisplayOrders(count).stream().map(Long::intValue).sorted().toList();
+    }
+
+    @Override
+    public int reorder(List<UUID> orderedIds) {
+        return orderedIds.isEmpty() ? 0 : jpaRepository.reorder(orderedIds.toArray(UUID[]::new));
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : jpaRepository.findIdsByIdIn(ids);
+    }
+
+    private void applyTo(SpokenLanguageEntity entity, SpokenLanguage language) {
+        entity.setNameEn(language.nameEn());
+        entity.setNameEs(language.nameEs());
+        entity.setLevelEn(language.levelEn());
+        entity.setLevelEs(language.levelEs());
+        entity.setProficiency(language.proficiency());
+        entity.setOrder(language.order());
     }
 
     private SpokenLanguage toDomain(SpokenLanguageEntity entity) {
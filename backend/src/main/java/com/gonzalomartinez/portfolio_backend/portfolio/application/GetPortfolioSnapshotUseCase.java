@@ -0,0 +1,7 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
+
+public interface GetPortfolioSnapshotUseCase {
+    PortfolioSnapshot getSnapshot();
+}
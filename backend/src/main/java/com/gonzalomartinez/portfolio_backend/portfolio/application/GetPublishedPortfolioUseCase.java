@@ -0,0 +1,11 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
+
+import java.util.Set;
+
+public interface GetPublishedPortfolioUseCase {
+    PublicPortfolioDto getPublishedPortfolio(Set<PortfolioSection> sections);
+    LocalizedPortfolioDto getPublishedPortfolio(Set<PortfolioSection> sections, ContentLanguage language);
+}
@@ -0,0 +1,19 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gonzalomartinez.portfolio_backend.experience.application.LocalizedExperienceDto;
+import com.gonzalomartinez.portfolio_backend.language.application.LocalizedSpokenLanguageDto;
+import com.gonzalomartinez.portfolio_backend.profile.application.LocalizedProfileDto;
+import com.gonzalomartinez.portfolio_backend.project.application.LocalizedProjectDto;
+import com.gonzalomartinez.portfolio_backend.skill.application.LocalizedSkillDto;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LocalizedPortfolioDto(
+    LocalizedProfileDto profile,
+    List<LocalizedProjectDto> projects,
+    List<LocalizedExperienceDto> experiences,
+    List<LocalizedSkillDto> skills,
+    List<LocalizedSpokenLanguageDto> spokenLanguages
+) {}
@@ -0,0 +1,14 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+public interface PortfolioReadModelPort {
+    void store(PortfolioSection section, Supplier<?> document);
+    Set<PortfolioSection> storedSections();
+    Optional<PortfolioSnapshot> load(long version);
+}
@@ -0,0 +1,70 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.experience.domain.ExperienceRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguageRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.profile.domain.ProfileRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.skill.domain.SkillRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Service
+public class PortfolioReadModelService implements UpdatePortfolioReadModelUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioReadModelService.class);
+
+    private final ProfileRepositoryPort profileRepository;
+    private final ProjectRepositoryPort projectRepository;
+    private final ExperienceRepositoryPort experienceRepository;
+    private final SkillRepositoryPort skillRepository;
+    private final SpokenLanguageRepositoryPort spokenLanguageRepository;
+    private final PortfolioReadModelPort readModel;
+
+    public PortfolioReadModelService(
+            ProfileRepositoryPort profileRepository,
+            ProjectRepositoryPort projectRepository,
+            ExperienceRepositoryPort experienceRepository,
+            SkillRepositoryPort skillRepository,
+            SpokenLanguageRepositoryPort spokenLanguageRepository,
+            PortfolioReadModelPort readModel) {
+        this.profileRepository = profileRepository;
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+        this.skillRepository = skillRepository;
+        this.spokenLanguageRepository = spokenLanguageRepository;
+        this.readModel = readModel;
+    }
+
+    // Joins the admin write's transaction, so the document commits or rolls back together with the rows it renders
+    @Override
+    @Transactional
+    public void update(PortfolioSection section) {
+        readModel.store(section, () -> switch (section) {
+            case PROFILE -> profileRepository.findFirst().orElse(null);
+            case PROJECTS -> projectRepository.findAllByOrderByOrderAsc();
+            case EXPERIENCES -> experienceRepository.findAllByOrderByEndDateDescStartDateDesc();
+            case SKILLS -> skillRepository.findAllByOrderByOrderAsc();
+            case SPOKEN_LANGUAGES -> spokenLanguageRepository.findAllByOrderByOrderAsc();
+        });
+        log.debug("Portfolio read model updated for section {}", section);
+    }
+
+    @Override
+    @Transactional
+    public void populateMissing() {
+        Set<PortfolioSection> missing = EnumSet.allOf(PortfolioSection.class);
+        missing.removeAll(readModel.storedSections());
+        for (PortfolioSection section : missing) {
+            update(section);
+        }
+        if (!missing.isEmpty()) {
+            log.info("Populated portfolio read model sections {}", missing);
+        }
+    }
+}
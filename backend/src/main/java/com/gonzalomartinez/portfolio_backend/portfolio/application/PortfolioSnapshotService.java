@@ -0,0 +1,138 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.experience.domain.ExperienceRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguageRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
+import com.gonzalomartinez.portfolio_backend.profile.domain.ProfileRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.skill.domain.SkillRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class PortfolioSnapshotService implements GetPortfolioSnapshotUseCase, RefreshPortfolioSnapshotUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioSnapshotService.class);
+
+    private final ProfileRepositoryPort profileRepository;
+    private final ProjectRepositoryPort projectRepository;
+    private final ExperienceRepositoryPort experienceRepository;
+    private final SkillRepositoryPort skillRepository;
+    private final SpokenLanguageRepositoryPort spokenLanguageRepository;
+    private final PortfolioReadModelPort readModel;
+    private final TransactionTemplate coldStartTransaction;
+
+    private final AtomicReference<PortfolioSnapshot> snapshot = new AtomicReference<>();
+    private final Object rebuildLock = new Object();
+    // Set when a refresh fails, so the snapshot is never left serving content the database has moved past
+    private volatile boolean stale;
+
+    public PortfolioSnapshotService(
+            ProfileRepositoryPort profileRepository,
+            ProjectRepositoryPort projectRepository,
+            ExperienceRepositoryPort experienceRepository,
+            SkillRepositoryPort skillRepository,
+            SpokenLanguageRepositoryPort spokenLanguageRepository,
+            PortfolioReadModelPort readModel,
+            PlatformTransactionManager transactionManager) {
+        this.profileRepository = profileRepository;
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+        this.skillRepository = skillRepository;
+        this.spokenLanguageRepository = spokenLanguageRepository;
+        this.readModel = readModel;
+        // Same settings as refreshAll's @Transactional, which a call from inside this class would bypass
+        this.coldStartTransaction = new TransactionTemplate(transactionManager);
+        this.coldStartTransaction.setReadOnly(true);
+        this.coldStartTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public PortfolioSnapshot getSnapshot() {
+        PortfolioSnapshot current = snapshot.get();
+        if (current == null || stale) {
+            try {
+                coldStartTransaction.executeWithoutResult(status -> {
+                    synchronized (rebuildLock) {
+                        // The startup warm-up or another reader may have rebuilt it while this thread waited
+                        if (snapshot.get() == null || stale) {
+                            refreshAll();
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                if (current == null) {
+                    throw e;
+                }
+                // Still stale, so the next read tries again
+                log.warn("Could not rebuild stale portfolio snapshot, serving version {}: {}", current.version(), e.getMessage());
+            }
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void refresh(PortfolioSection section) {
+        synchronized (rebuildLock) {
+            try {
+                PortfolioSnapshot current = snapshot.get();
+                // A stale snapshot may be missing earlier changes to other sections too
+                if (current == null || stale) {
+                    snapshot.set(loadAll(current));
+                    stale = false;
+                    log.debug("Published portfolio snapshot built from scratch");
+                    return;
+                }
+
+                // The read model already holds every section rendered, so one lookup replaces the per-section reload
+                PortfolioSnapshot updated = readModel.load(current.version() + 1).orElseGet(() -> switch (section) {
+                    case PROFILE -> current.withProfile(profileRepository.findFirst().orElse(null));
+                    case PROJECTS -> current.withProjects(projectRepository.findAllByOrderByOrderAsc());
+                    case EXPERIENCES -> current.withExperiences(experienceRepository.findAllByOrderByEndDateDescStartDateDesc());
+                    case SKILLS -> current.withSkills(skillRepository.findAllByOrderByOrderAsc());
+                    case SPOKEN_LANGUAGES -> current.withSpokenLanguages(spokenLanguageRepository.findAllByOrderByOrderAsc());
+                });
+                snapshot.set(updated);
+                log.debug("Published portfolio snapshot refreshed for section {}", section);
+            } catch (RuntimeException e) {
+                stale = true;
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void refreshAll() {
+        synchronized (rebuildLock) {
+            snapshot.set(loadAll(snapshot.get()));
+            stale = false;
+            log.info("Published portfolio snapshot rebuilt");
+        }
+    }
+
+    private PortfolioSnapshot loadAll(PortfolioSnapshot previous) {
+        long version = previous != null ? previous.version() + 1 : 1;
+        return readModel.load(version).orElseGet(() -> new PortfolioSnapshot(
+                profileRepository.findFirst().orElse(null),
+                projectRepository.findAllByOrderByOrderAsc(),
+                experienceRepository.findAllByOrderByEndDateDescStartDateDesc(),
+                skillRepository.findAllByOrderByOrderAsc(),
+                spokenLanguageRepository.findAllByOrderByOrderAsc(),
+                version,
+                Instant.now()
+        ));
+    }
+}
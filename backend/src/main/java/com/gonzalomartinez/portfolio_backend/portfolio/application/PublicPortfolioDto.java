@@ -0,0 +1,19 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gonzalomartinez.portfolio_backend.experience.application.ExperienceDto;
+import com.gonzalomartinez.portfolio_backend.language.application.SpokenLanguageDto;
+import com.gonzalomartinez.portfolio_backend.profile.application.ProfileDto;
+import com.gonzalomartinez.portfolio_backend.project.application.ProjectDto;
+import com.gonzalomartinez.portfolio_backend.skill.application.SkillDto;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PublicPortfolioDto(
+    ProfileDto profile,
+    List<ProjectDto> projects,
+    List<ExperienceDto> experiences,
+    List<SkillDto> skills,
+    List<SpokenLanguageDto> spokenLanguages
+) {}
@@ -0,0 +1,68 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.experience.application.ManageExperienceUseCase;
+import com.gonzalomartinez.portfolio_backend.language.application.ManageSpokenLanguageUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.profile.application.GetProfileUseCase;
+import com.gonzalomartinez.portfolio_backend.project.application.ManageProjectUseCase;
+import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
+import com.gonzalomartinez.portfolio_backend.skill.application.ManageSkillUseCase;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Service
+public class PublishedPortfolioService implements GetPublishedPortfolioUseCase {
+
+    private final GetProfileUseCase profileUseCase;
+    private final ManageProjectUseCase projectUseCase;
+    private final ManageExperienceUseCase experienceUseCase;
+    private final ManageSkillUseCase skillUseCase;
+    private final ManageSpokenLanguageUseCase spokenLanguageUseCase;
+
+    public PublishedPortfolioService(
+            GetProfileUseCase profileUseCase,
+            ManageProjectUseCase projectUseCase,
+            ManageExperienceUseCase experienceUseCase,
+            ManageSkillUseCase skillUseCase,
+            ManageSpokenLanguageUseCase spokenLanguageUseCase) {
+        this.profileUseCase = profileUseCase;
+        this.projectUseCase = projectUseCase;
+        this.experienceUseCase = experienceUseCase;
+        this.skillUseCase = skillUseCase;
+        this.spokenLanguageUseCase = spokenLanguageUseCase;
+    }
+
+    @Override
+    public PublicPortfolioDto getPublishedPortfolio(Set<PortfolioSection> sections) {
+        return new PublicPortfolioDto(
+                sections.contains(PortfolioSection.PROFILE) ? findPublishedProfile(profileUseCase::getPublishedProfile) : null,
+                sections.contains(PortfolioSection.PROJECTS) ? projectUseCase.getPublishedProjects() : null,
+                sections.contains(PortfolioSection.EXPERIENCES) ? experienceUseCase.getPublishedExperiences() : null,
+                sections.contains(PortfolioSection.SKILLS) ? skillUseCase.getPublishedSkills() : null,
+                sections.contains(PortfolioSection.SPOKEN_LANGUAGES) ? spokenLanguageUseCase.getPublishedSpokenLanguages() : null
+        );
+    }
+
+    @Override
+    public LocalizedPortfolioDto getPublishedPortfolio(Set<PortfolioSection> sections, ContentLanguage language) {
+        return new LocalizedPortfolioDto(
+                sections.contains(PortfolioSection.PROFILE) ? findPublishedProfile(() -> profileUseCase.getPublishedProfile(language)) : null,
+                sections.contains(PortfolioSection.PROJECTS) ? projectUseCase.getPublishedProjects(language) : null,
+                sections.contains(PortfolioSection.EXPERIENCES) ? experienceUseCase.getPublishedExperiences(language) : null,
+                sections.contains(PortfolioSection.SKILLS) ? skillUseCase.getPublishedSkills(language) : null,
+                sections.contains(PortfolioSection.SPOKEN_LANGUAGES) ? spokenLanguageUseCase.getPublishedSpokenLanguages(language) : null
+        );
+    }
+
+    // A portfolio without a profile yet should still render its other sections
+    private static <T> T findPublishedProfile(Supplier<T> profile) {
+        try {
+            return profile.get();
+        } catch (ResourceNotFoundException e) {
+            return null;
+        }
+    }
+}
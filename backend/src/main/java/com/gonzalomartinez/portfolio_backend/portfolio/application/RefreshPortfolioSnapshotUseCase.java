@@ -0,0 +1,8 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+
+public interface RefreshPortfolioSnapshotUseCase {
+    void refresh(PortfolioSection section);
+    void refreshAll();
+}
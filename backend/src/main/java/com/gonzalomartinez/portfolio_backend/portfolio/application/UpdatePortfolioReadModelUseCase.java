@@ -0,0 +1,8 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+
+public interface UpdatePortfolioReadModelUseCase {
+    void update(PortfolioSection section);
+    void populateMissing();
+}
@@ -0,0 +1,9 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.domain;
+
+public enum PortfolioSection {
+    PROFILE,
+    PROJECTS,
+    EXPERIENCES,
+    SKILLS,
+    SPOKEN_LANGUAGES
+}
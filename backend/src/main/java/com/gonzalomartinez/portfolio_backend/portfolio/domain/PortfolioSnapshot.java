@@ -0,0 +1,58 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.domain;
+
+import com.gonzalomartinez.portfolio_backend.experience.domain.Experience;
+import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguage;
+import com.gonzalomartinez.portfolio_backend.profile.domain.Profile;
+import com.gonzalomartinez.portfolio_backend.project.domain.Project;
+import com.gonzalomartinez.portfolio_backend.skill.domain.Skill;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public record PortfolioSnapshot(
+    Profile profile,
+    List<Project> projects,
+    List<Experience> experiences,
+    List<Skill> skills,
+    List<SpokenLanguage> spokenLanguages,
+    long version,
+    Instant publishedAt
+) {
+    public PortfolioSnapshot {
+        projects = List.copyOf(projects);
+        experiences = List.copyOf(experiences);
+        skills = List.copyOf(skills);
+        spokenLanguages = List.copyOf(spokenLanguages);
+    }
+
+    public Optional<Profile> findProfile() {
+        return Optional.ofNullable(profile);
+    }
+
+    public List<Project> featuredProjects() {
+        return projects.stream()
+                .filter(project -> Boolean.TRUE.equals(project.featured()))
+                .toList();
+    }
+
+    public PortfolioSnapshot withProfile(Profile newProfile) {
+        return new PortfolioSnapshot(newProfile, projects, experiences, skills, spokenLanguages, version + 1, Instant.now());
+    }
+
+    public PortfolioSnapshot withProjects(List<Project> newProjects) {
+        return new PortfolioSnapshot(profile, newProjects, experiences, skills, spokenLanguages, version + 1, Instant.now());
+    }
+
+    public PortfolioSnapshot withExperiences(List<Experience> newExperiences) {
+        return new PortfolioSnapshot(profile, projects, newExperiences, skills, spokenLanguages, version + 1, Instant.now());
+    }
+
+    public PortfolioSnapshot withSkills(List<Skill> newSkills) {
+        return new PortfolioSnapshot(profile, projects, experiences, newSkills, spokenLanguages, version + 1, Instant.now());
+    }
+
+    public PortfolioSnapshot withSpokenLanguages(List<SpokenLanguage> newSpokenLanguages) {
+        return new PortfolioSnapshot(profile, projects, experiences, skills, newSpokenLanguages, version + 1, Instant.now());
+    }
+}
@@ -0,0 +1,65 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.adapter.in.web;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPublishedPortfolioUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.web.PublishedResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/public/portfolio")
+public class PublicPortfolioController {
+
+    private final GetPublishedPortfolioUseCase portfolioUseCase;
+    private final PublishedResponseCache responseCache;
+
+    public PublicPortfolioController(GetPublishedPortfolioUseCase portfolioUseCase, PublishedResponseCache responseCache) {
+        this.portfolioUseCase = portfolioUseCase;
+        this.responseCache = responseCache;
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> getPortfolio(
+            @RequestParam(required = false) String sections,
+            @RequestParam(required = false) String lang,
+            HttpServletRequest request) {
+        Set<PortfolioSection> selected = parseSections(sections);
+        String key = selected.stream()
+                .map(Enum::name)
+                .collect(Collectors.joining(",", "portfolio:", ""));
+        return responseCache.respond(key, lang, request,
+                () -> portfolioUseCase.getPublishedPortfolio(selected),
+                language -> portfolioUseCase.getPublishedPortfolio(selected, language));
+    }
+
+    static Set<PortfolioSection> parseSections(String sections) {
+        if (sections == null || sections.isBlank()) {
+            return EnumSet.allOf(PortfolioSection.class);
+        }
+        Set<PortfolioSection> selected = EnumSet.noneOf(PortfolioSection.class);
+        for (String section : sections.split(",")) {
+            String name = section.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+            if (name.isEmpty()) {
+                continue;
+            }
+            try {
+                selected.add(PortfolioSection.valueOf(name));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown portfolio section: " + section.trim());
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one portfolio section must be selected");
+        }
+        return selected;
+    }
+}
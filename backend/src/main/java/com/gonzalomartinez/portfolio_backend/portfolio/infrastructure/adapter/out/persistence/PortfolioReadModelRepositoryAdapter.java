@@ -0,0 +1,109 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.adapter.out.persistence;
+
+import com.gonzalomartinez.portfolio_backend.experience.domain.Experience;
+import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguage;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioReadModelPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
+import com.gonzalomartinez.portfolio_backend.profile.domain.Profile;
+import com.gonzalomartinez.portfolio_backend.project.domain.Project;
+import com.gonzalomartinez.portfolio_backend.skill.domain.Skill;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Component
+public class PortfolioReadModelRepositoryAdapter implements PortfolioReadModelPort {
+
+    // Serializes writers of one section, so a document is always rendered after the previous writer committed
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('portfolio_read_model:' || :section))";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO portfolio_read_model (section, document, updated_at)
+            VALUES (:section, CAST(:document AS jsonb), statement_timestamp())
+            ON CONFLICT (section) DO UPDATE SET
+                document = EXCLUDED.document,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String LOAD_SQL = "SELECT section, document::text AS document, updated_at FROM portfolio_read_model";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<PortfolioSection, JavaType> documentTypes = new EnumMap<>(PortfolioSection.class);
+
+    public PortfolioReadModelRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        documentTypes.put(PortfolioSection.PROFILE, objectMapper.constructType(Profile.class));
+        documentTypes.put(PortfolioSection.PROJECTS, listOf(Project.class));
+        documentTypes.put(PortfolioSection.EXPERIENCES, listOf(Experience.class));
+        documentTypes.put(PortfolioSection.SKILLS, listOf(Skill.class));
+        documentTypes.put(PortfolioSection.SPOKEN_LANGUAGES, listOf(SpokenLanguage.class));
+    }
+
+    @Override
+    public void store(PortfolioSection section, Supplier<?> document) {
+        Map<String, Object> params = Map.of("section", section.name());
+        jdbcTemplate.query(LOCK_SQL, params, resultSet -> null);
+        jdbcTemplate.update(UPSERT_SQL, Map.of(
+                "section", section.name(),
+                "document", objectMapper.writeValueAsString(document.get())
+        ));
+    }
+
+    @Override
+    public Set<PortfolioSection> storedSections() {
+        Set<PortfolioSection> sections = EnumSet.noneOf(PortfolioSection.class);
+        jdbcTemplate.query("SELECT section FROM portfolio_read_model", Map.of(),
+                (resultSet, row) -> sections.add(PortfolioSection.valueOf(resultSet.getString("section"))));
+        return sections;
+    }
+
+    @Override
+    public Optional<PortfolioSnapshot> load(long version) {
+        Map<PortfolioSection, Object> documents = new EnumMap<>(PortfolioSection.class);
+        Instant[] publishedAt = {Instant.EPOCH};
+        jdbcTemplate.query(LOAD_SQL, Map.of(), resultSet -> {
+            PortfolioSection section = PortfolioSection.valueOf(resultSet.getString("section"));
+            documents.put(section, objectMapper.readValue(resultSet.getString("document"), documentTypes.get(section)));
+            Timestamp updatedAt = resultSet.getTimestamp("updated_at");
+            if (updatedAt.toInstant().isAfter(publishedAt[0])) {
+                publishedAt[0] = updatedAt.toInstant();
+            }
+        });
+        // A partially populated model can't stand in for the tables yet
+        if (documents.size() < PortfolioSection.values().length) {
+            return Optional.empty();
+        }
+        return Optional.of(new PortfolioSnapshot(
+                (Profile) documents.get(PortfolioSection.PROFILE),
+                sectionList(documents, PortfolioSection.PROJECTS),
+                sectionList(documents, PortfolioSection.EXPERIENCES),
+                sectionList(documents, PortfolioSection.SKILLS),
+                sectionList(documents, PortfolioSection.SPOKEN_LANGUAGES),
+                version,
+                publishedAt[0]
+        ));
+    }
+
+    private JavaType listOf(Class<?> elementType) {
+        return objectMapper.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> sectionList(Map<PortfolioSection, Object> documents, PortfolioSection section) {
+        return (List<T>) documents.get(section);
+    }
+}
@@ -0,0 +1,41 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.event;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.application.UpdatePortfolioReadModelUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class PortfolioReadModelProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioReadModelProjector.class);
+
+    private final UpdatePortfolioReadModelUseCase updateUseCase;
+
+    public PortfolioReadModelProjector(UpdatePortfolioReadModelUseCase updateUseCase) {
+        this.updateUseCase = updateUseCase;
+    }
+
+    // Must fill the read model before the snapshot refresher warms up from it
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            updateUseCase.populateMissing();
+        } catch (Exception e) {
+            log.warn("Could not populate portfolio read model, snapshots will be loaded from the tables: {}", e.getMessage());
+        }
+    }
+
+    // Still inside the admin write's transaction: a failed projection rolls the write back instead of leaving a stale document
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onSectionChanged(PortfolioSectionChangedEvent event) {
+        updateUseCase.update(event.section());
+    }
+}
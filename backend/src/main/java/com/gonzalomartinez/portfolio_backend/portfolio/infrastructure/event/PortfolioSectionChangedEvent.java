@@ -0,0 +1,5 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.event;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+
+public record PortfolioSectionChangedEvent(PortfolioSection section) {}
@@ -0,0 +1,42 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.event;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.application.RefreshPortfolioSnapshotUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class PortfolioSnapshotRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioSnapshotRefresher.class);
+
+    private final RefreshPortfolioSnapshotUseCase refreshUseCase;
+
+    public PortfolioSnapshotRefresher(RefreshPortfolioSnapshotUseCase refreshUseCase) {
+        this.refreshUseCase = refreshUseCase;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            refreshUseCase.refreshAll();
+        } catch (Exception e) {
+            log.warn("Could not warm up portfolio snapshot, it will be built on first read: {}", e.getMessage());
+        }
+    }
+
+    // Runs only once the admin write has committed, so the rebuild never sees uncommitted or rolled-back data
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSectionChanged(PortfolioSectionChangedEvent event) {
+        // The write has already committed, so failing here would only turn its response into an error
+        try {
+            refreshUseCase.refresh(event.section());
+        } catch (Exception e) {
+            log.warn("Could not refresh portfolio section {}, it will be rebuilt on next read: {}", event.section(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.event;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpringPortfolioChangeNotifier implements PortfolioChangeNotifierPort {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SpringPortfolioChangeNotifier(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void sectionChanged(PortfolioSection section) {
+        eventPublisher.publishEvent(new PortfolioSectionChangedEvent(section));
+    }
+}
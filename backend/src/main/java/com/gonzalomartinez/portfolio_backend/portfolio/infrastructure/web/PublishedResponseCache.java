@@ -0,0 +1,169 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.web;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class PublishedResponseCache {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    private final GetPortfolioSnapshotUseCase portfolioSnapshot;
+    private final ObjectMapper objectMapper;
+    private final Map<String, EncodedBody> bodies = new ConcurrentHashMap<>();
+
+    public PublishedResponseCache(GetPortfolioSnapshotUseCase portfolioSnapshot, ObjectMapper objectMapper) {
+        this.portfolioSnapshot = portfolioSnapshot;
+        this.objectMapper = objectMapper;
+    }
+
+    public ResponseEntity<byte[]> respond(String key, HttpServletRequest request, Supplier<?> bodySupplier) {
+        EncodedBody body = encodedBody(key, bodySupplier);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? body.gzipEtag() : body.identityEtag();
+
+        if (isNotModified(request, etag, body.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .lastModified(body.lastModified())
+                    .cacheControl(CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .lastModified(body.lastModified())
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? body.gzip() : body.identity());
+    }
+
+    public ResponseEntity<byte[]> respond(
+            String key,
+            String lang,
+            HttpServletRequest request,
+            Supplier<?> bodySupplier,
+            Function<ContentLanguage, ?> localizedBodySupplier) {
+        if (lang == null || lang.isBlank()) {
+            return respond(key, request, bodySupplier);
+        }
+        // Each language is its own cache entry, so it keeps its own encoded bytes and validators
+        ContentLanguage language = ContentLanguage.fromCode(lang);
+        return respond(key + "@" + language.code(), request, () -> localizedBodySupplier.apply(language));
+    }
+
+    EncodedBody encodedBody(String key, Supplier<?> bodySupplier) {
+        // Read the version before the body so a concurrent publish can only make the entry look older than it is
+        PortfolioSnapshot snapshot = portfolioSnapshot.getSnapshot();
+        EncodedBody cached = bodies.get(key);
+        if (cached != null && cached.version() == snapshot.version()) {
+            return cached;
+        }
+
+        byte[] identity = objectMapper.writeValueAsBytes(bodySupplier.get());
+        // Strong validators come from the content digest, so they survive restarts and ignore edits to other sections
+        String digest = digest(identity);
+        EncodedBody encoded = new EncodedBody(
+                snapshot.version(),
+                snapshot.publishedAt().truncatedTo(ChronoUnit.SECONDS),
+                identity,
+                gzip(identity),
+                "\"" + digest + "\"",
+                "\"" + digest + "-gzip\""
+        );
+        bodies.put(key, encoded);
+        return encoded;
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String etag, Instant lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince != -1 && !lastModified.isAfter(Instant.ofEpochMilli(ifModifiedSince));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").equalsIgnoreCase("q=0");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] data) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    record EncodedBody(
+        long version,
+        Instant lastModified,
+        byte[] identity,
+        byte[] gzip,
+        String identityEtag,
+        String gzipEtag
+    ) {}
+}
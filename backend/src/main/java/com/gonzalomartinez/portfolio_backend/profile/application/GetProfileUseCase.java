@@ -1,5 +1,9 @@
 package com.gonzalomartinez.portfolio_backend.profile.application;
 
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
+
 public interface GetProfileUseCase {
     ProfileDto getProfile();
+    ProfileDto getPublishedProfile();
+    LocalizedProfileDto getPublishedProfile(ContentLanguage language);
 }
@@ -0,0 +1,24 @@
+package com.gonzalomartinez.portfolio_backend.profile.application;
+
+import java.util.UUID;
+
+public record LocalizedProfileDto(
+    UUID id,
+    String greeting,
+    String title,
+    String subtitle,
+    String description,
+    String aboutTitle,
+    String aboutIntroTitle,
+    String aboutSummary,
+    String aboutPhilosophy,
+    String sentence,
+    String cvUrl,
+    String fullName,
+    String email,
+    String githubUrl,
+    String linkedinUrl,
+    String location,
+    String logoText,
+    String imageUrl
+) {}
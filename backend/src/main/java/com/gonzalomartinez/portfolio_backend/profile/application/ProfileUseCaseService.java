@@ -1,11 +1,16 @@
 package com.gonzalomartinez.portfolio_backend.profile.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.profile.domain.Profile;
 import com.gonzalomartinez.portfolio_backend.profile.domain.ProfileRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.shared.application.SanitizerPort;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
 import org.springframework.stereotype.Service;
 
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -16,10 +21,18 @@ public class ProfileUseCaseService implements GetProfileUseCase, UpdateProfileUs
 
     private final ProfileRepositoryPort profileRepository;
     private final SanitizerPort inputSanitizer;
+    private final GetPortfolioSnapshotUseCase portfolioSnapshot;
+    private final PortfolioChangeNotifierPort changeNotifier;
 
-    public ProfileUseCaseService(ProfileRepositoryPort profileRepository, SanitizerPort inputSanitizer) {
+    public ProfileUseCaseService(
+            ProfileRepositoryPort profileRepository,
+            SanitizerPort inputSanitizer,
+            GetPortfolioSnapshotUseCase portfolioSnapshot,
+            PortfolioChangeNotifierPort changeNotifier) {
         this.profileRepository = profileRepository;
         this.inputSanitizer = inputSanitizer;
+        this.portfolioSnapshot = portfolioSnapshot;
+        this.changeNotifier = changeNotifier;
     }
 
     @Override
@@ -29,6 +42,22 @@ public class ProfileUseCaseService implements GetProfileUseCase, UpdateProfileUs
         return convertToDto(profile);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProfileDto getPublishedProfile() {
+        Profile profile = portfolioSnapshot.getSnapshot().findProfile()
+                .orElseThrow(() -> new ResourceNotFoundException("Profile", "id", "any"));
+        return convertToDto(profile);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LocalizedProfileDto getPublishedProfile(ContentLanguage language) {
+        Profile profile = portfolioSnapshot.getSnapshot().findProfile()
+                .orElseThrow(() -> new ResourceNotFoundException("Profile", "id", "any"));
+        return convertToLocalizedDto(profile, language);
+    }
+
     @Override
     @Transactional
     public ProfileDto updateProfile(ProfileDto profileDetails) {
@@ -71,7 +100,11 @@ public class ProfileUseCaseService implements GetProfileUseCase, UpdateProfileUs
                 inputSanitizer.sanitizeUrl(profileDetails.imageUrl())
         );
 
-        Profile savedProfile = profileRepository.save(updatedProfile);
+        Profile savedProfile = updatedProfile.id() != null
+                ? profileRepository.update(updatedProfile)
+                        .orElseThrow(() -> new ResourceNotFoundException("Profile", "id", updatedProfile.id()))
+                : profileRepository.save(updatedProfile);
+        changeNotifier.sectionChanged(PortfolioSection.PROFILE);
         return convertToDto(savedProfile);
     }
 
@@ -112,4 +145,27 @@ public class ProfileUseCaseService implements GetProfileUseCase, UpdateProfileUs
                 profile.imageUrl()
         );
     }
+
+    private LocalizedProfileDto convertToLocalizedDto(Profile profile, ContentLanguage language) {
+        return new LocalizedProfileDto(
+                profile.id(),
+                language.select(profile.greetingEn(), profile.greetingEs()),
+                language.select(profile.titleEn(), profile.titleEs()),
+                language.select(profile.subtitleEn(), profile.subtitleEs()),
+                language.select(profile.descriptionEn(), profile.descriptionEs()),
+                language.select(profile.aboutTitleEn(), profile.aboutTitleEs()),
+                language.select(profile.aboutIntroTitleEn(), profile.aboutIntroTitleEs()),
+                language.select(profile.aboutSummaryEn(), profile.aboutSummaryEs()),
+                language.select(profile.aboutPhilosophyEn(), profile.aboutPhilosophyEs()),
+                language.select(profile.sentenceEn(), profile.sentenceEs()),
+                profile.cvUrl(),
+                language.select(profile.fullNameEn(), profile.fullNameEs()),
+                profile.email(),
+                profile.githubUrl(),
+                profile.linkedinUrl(),
+                language.select(profile.locationEn(), profile.locationEs()),
+                profile.logoText(),
+                profile.imageUrl()
+        );
+    }
 }
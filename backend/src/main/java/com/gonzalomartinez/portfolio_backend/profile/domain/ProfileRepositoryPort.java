@@ -6,4 +6,5 @@ import java.util.Optional;
 public interface ProfileRepositoryPort {
     Optional<Profile> findFirst();
     Profile save(Profile profile);
+    Optional<Profile> update(Profile profile);
 }
@@ -1,10 +1,12 @@
 package com.gonzalomartinez.portfolio_backend.profile.infrastructure.adapter.in.web;
 
-import com.gonzalomartinez.portfolio_backend.profile.application.ProfileDto;
 import com.gonzalomartinez.portfolio_backend.profile.application.GetProfileUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.web.PublishedResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -12,13 +14,18 @@ import org.springframework.web.bind.annotation.RestController;
 public class PublicProfileController {
 
     private final GetProfileUseCase getProfileUseCase;
+    private final PublishedResponseCache responseCache;
 
-    public PublicProfileController(GetProfileUseCase getProfileUseCase) {
+    public PublicProfileController(GetProfileUseCase getProfileUseCase, PublishedResponseCache responseCache) {
         this.getProfileUseCase = getProfileUseCase;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<ProfileDto> getProfile() {
-        return ResponseEntity.ok(getProfileUseCase.getProfile());
+    public ResponseEntity<byte[]> getProfile(
+            @RequestParam(required = false) String lang,
+            HttpServletRequest request) {
+        return responseCache.respond("profile", lang, request,
+                getProfileUseCase::getPublishedProfile, getProfileUseCase::getPublishedProfile);
     }
 }
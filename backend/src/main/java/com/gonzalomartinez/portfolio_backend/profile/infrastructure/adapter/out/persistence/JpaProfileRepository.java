@@ -1,6 +1,9 @@
 package com.gonzalomartinez.portfolio_backend.profile.infrastructure.adapter.out.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -8,5 +11,6 @@ import java.util.UUID;
 
 @Repository
 public interface JpaProfileRepository extends JpaRepository<ProfileEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ProfileEntity> findTopByOrderByIdAsc();
 }
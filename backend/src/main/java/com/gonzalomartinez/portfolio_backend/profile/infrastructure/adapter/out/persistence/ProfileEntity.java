@@ -1,9 +1,12 @@
 package com.gonzalomartinez.portfolio_backend.profile.infrastructure.adapter.out.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "profile")
 @Table(name = "profiles")
 public class ProfileEntity {
 
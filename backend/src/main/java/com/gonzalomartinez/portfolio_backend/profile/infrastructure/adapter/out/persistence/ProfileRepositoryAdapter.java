@@ -30,6 +30,41 @@ public class ProfileRepositoryAdapter implements ProfileRepositoryPort {
         return toDomain(savedEntity);
     }
 
+    @Override
+    public Optional<Profile> update(Profile profile) {
+        return jpaProfileRepository.findById(profile.id()).map(entity -> {
+            entity.setGreetingEn(profile.greetingEn());
+            entity.setGreetingEs(profile.greetingEs());
+            entity.setTitleEn(profile.titleEn());
+            entity.setTitleEs(profile.titleEs());
+            entity.setSubtitleEn(profile.subtitleEn());
+            entity.setSubtitleEs(profile.subtitleEs());
+            entity.setDescriptionEn(profile.descriptionEn());
+            entity.setDescriptionEs(profile.descriptionEs());
+            entity.setAboutTitleEn(profile.aboutTitleEn());
+            entity.setAboutTitleEs(profile.aboutTitleEs());
+            entity.setAboutIntroTitleEn(profile.aboutIntroTitleEn());
+            entity.setAboutIntroTitleEs(profile.aboutIntroTitleEs());
+            entity.setAboutSummaryEn(profile.aboutSummaryEn());
+            entity.setAboutSummaryEs(profile.aboutSummaryEs());
+            entity.setAboutPhilosophyEn(profile.aboutPhilosophyEn());
+            entity.setAboutPhilosophyEs(profile.aboutPhilosophyEs());
+            entity.setSentenceEn(profile.sentenceEn());
+            entity.setSentenceEs(profile.sentenceEs());
+            entity.setCvUrl(profile.cvUrl());
+            entity.setFullNameEn(profile.fullNameEn());
+            entity.setFullNameEs(profile.fullNameEs());
+            entity.setEmail(profile.email());
+            entity.setGithubUrl(profile.githubUrl());
+            entity.setLinkedinUrl(profile.linkedinUrl());
+            entity.setLocationEn(profile.locationEn());
+            entity.setLocationEs(profile.locationEs());
+            entity.setLogoText(profile.logoText());
+            entity.setImageUrl(profile.imageUrl());
+            return toDomain(entity);
+        });
+    }
+
     private Profile toDomain(ProfileEntity entity) {
         return new Profile(
                 entity.getId(),
@@ -0,0 +1,21 @@
+package com.gonzalomartinez.portfolio_backend.project.application;
+
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record LocalizedProjectDto(
+    UUID id,
+    String title,
+    String description,
+    List<String> imageUrls,
+    List<String> technologies,
+    String githubUrl,
+    String liveUrl,
+    ProjectType type,
+    Boolean featured,
+    Integer order,
+    LocalDateTime createdAt
+) {}
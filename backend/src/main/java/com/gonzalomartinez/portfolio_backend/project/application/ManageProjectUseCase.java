@@ -1,13 +1,28 @@
 package com.gonzalomartinez.portfolio_backend.project.application;
 
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectFilter;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
+
 import java.util.List;
 import java.util.UUID;
 
 public interface ManageProjectUseCase {
     List<ProjectDto> getAllProjects();
     List<ProjectDto> getFeaturedProjects();
+    List<ProjectDto> getPublishedProjects();
+    List<LocalizedProjectDto> getPublishedProjects(ContentLanguage language);
+    List<ProjectDto> getPublishedFeaturedProjects();
+    List<LocalizedProjectDto> getPublishedFeaturedProjects(ContentLanguage language);
+    ProjectPage<ProjectDto> getProjectPage(ProjectFilter filter, String after, Integer limit);
+    ProjectPage<ProjectDto> getPublishedProjectPage(ProjectFilter filter, String after, Integer limit);
+    ProjectPage<LocalizedProjectDto> getPublishedProjectPage(ProjectFilter filter, String after, Integer limit, ContentLanguage language);
     ProjectDto getProjectById(UUID id);
     ProjectDto createProject(ProjectDto dto);
     ProjectDto updateProject(UUID id, ProjectDto dto);
     void deleteProject(UUID id);
+    BatchResult<ProjectDto> applyProjectBatch(BatchRequest<ProjectDto> batch);
+    void reorderProjects(ReorderRequest request);
 }
@@ -0,0 +1,8 @@
+package com.gonzalomartinez.portfolio_backend.project.application;
+
+import java.util.List;
+
+public record ProjectPage<T>(
+    List<T> items,
+    String nextCursor
+) {}
@@ -1,19 +1,35 @@
 package com.gonzalomartinez.portfolio_backend.project.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.project.domain.Project;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectFilter;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectKey;
 import com.gonzalomartinez.portfolio_backend.project.domain.ProjectType;
 import com.gonzalomartinez.portfolio_backend.project.domain.ProjectRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.shared.application.SanitizerPort;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,13 +37,23 @@ import java.util.stream.Collectors;
 public class ProjectUseCaseService implements ManageProjectUseCase {
     
     private static final Logger log = LoggerFactory.getLogger(ProjectUseCaseService.class);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
     
     private final ProjectRepositoryPort projectRepository;
     private final SanitizerPort inputSanitizer;
+    private final GetPortfolioSnapshotUseCase portfolioSnapshot;
+    private final PortfolioChangeNotifierPort changeNotifier;
 
-    public ProjectUseCaseService(ProjectRepositoryPort projectRepository, SanitizerPort inputSanitizer) {
+    public ProjectUseCaseService(
+            ProjectRepositoryPort projectRepository,
+            SanitizerPort inputSanitizer,
+            GetPortfolioSnapshotUseCase portfolioSnapshot,
+            PortfolioChangeNotifierPort changeNotifier) {
         this.projectRepository = projectRepository;
         this.inputSanitizer = inputSanitizer;
+        this.portfolioSnapshot = portfolioSnapshot;
+        this.changeNotifier = changeNotifier;
     }
 
     @Override
@@ -46,6 +72,64 @@ public class ProjectUseCaseService implements ManageProjectUseCase {
                 .collect(Collectors.toList());
     }
 
+    // Served from the published snapshot, so no transaction (and no pooled connection) is needed
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProjectDto> getPublishedProjects() {
+        return portfolioSnapshot.getSnapshot().projects()
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LocalizedProjectDto> getPublishedProjects(ContentLanguage language) {
+        return portfolioSnapshot.getSnapshot().projects()
+                .stream()
+                .map(project -> convertToLocalizedDto(project, language))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProjectDto> getPublishedFeaturedProjects() {
+        return portfolioSnapshot.getSnapshot().featuredProjects()
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LocalizedProjectDto> getPublishedFeaturedProjects(ContentLanguage language) {
+        return portfolioSnapshot.getSnapshot().featuredProjects()
+                .stream()
+                .map(project -> convertToLocalizedDto(project, language))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ProjectPage<ProjectDto> getProjectPage(ProjectFilter filter, String after, Integer limit) {
+        int size = pageSize(limit);
+        // One extra row tells whether another page follows without a count query
+        List<Project> projects = projectRepository.findPage(filter, decodeCursor(after), size + 1);
+        return toPage(projects, size, this::convertToDto);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectPage<ProjectDto> getPublishedProjectPage(ProjectFilter filter, String after, Integer limit) {
+        return publishedPage(filter, after, limit, this::convertToDto);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectPage<LocalizedProjectDto> getPublishedProjectPage(
+            ProjectFilter filter, String after, Integer limit, ContentLanguage language) {
+        return publishedPage(filter, after, limit, project -> convertToLocalizedDto(project, language));
+    }
+
     @Override
     public ProjectDto getProjectById(UUID id) {
         Project project = projectRepository.findById(id)
@@ -63,6 +147,7 @@ public class ProjectUseCaseService implements ManageProjectUseCase {
         }
         
         Project savedProject = projectRepository.save(project);
+        changeNotifier.sectionChanged(PortfolioSection.PROJECTS);
         log.info("Created project: {} (ID: {})", savedProject.titleEn(), savedProject.id());
         
         return convertToDto(savedProject);
@@ -71,12 +156,10 @@ public class ProjectUseCaseService implements ManageProjectUseCase {
     @Override
     @Transactional
     public ProjectDto updateProject(UUID id, ProjectDto dto) {
-        Project existingProject = projectRepository.findById(id)
+        // createdAt is not updatable; the stored value comes back with the result
+        Project savedProject = projectRepository.update(convertToEntity(dto, id, null))
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
-        
-        Project updatedProject = convertToEntity(dto, id, existingProject.createdAt());
-        
-        Project savedProject = projectRepository.save(updatedProject);
+        changeNotifier.sectionChanged(PortfolioSection.PROJECTS);
         log.info("Updated project: {} (ID: {})", savedProject.titleEn(), savedProject.id());
         
         return convertToDto(savedProject);
@@ -85,14 +168,118 @@ public class ProjectUseCaseService implements ManageProjectUseCase {
     @Override
     @Transactional
     public void deleteProject(UUID id) {
-        if (!projectRepository.existsById(id)) {
+        if (!projectRepository.deleteById(id)) {
             throw new ResourceNotFoundException("Project", "id", id);
         }
-        
-        projectRepository.deleteById(id);
+        changeNotifier.sectionChanged(PortfolioSection.PROJECTS);
         log.info("Deleted project with ID: {}", id);
     }
 
+    @Override
+    @Transactional
+    public BatchResult<ProjectDto> applyProjectBatch(BatchRequest<ProjectDto> batch) {
+        batch.requireDistinctIds(ProjectDto::id);
+
+        List<UUID> deleted = projectRepository.deleteAllById(batch.delete());
+        if (deleted.size() < batch.delete().size()) {
+            throw new ResourceNotFoundException("Project", "id", batch.missingDeletes(deleted));
+        }
+
+        List<Project> updated = projectRepository.updateAll(batch.update().stream()
+                .map(dto -> convertToEntity(dto, dto.id(), null))
+                .toList());
+        if (updated.size() < batch.update().size()) {
+            throw new ResourceNotFoundException("Project", "id",
+                    batch.firstMissingUpdate(ProjectDto::id, updated.stream().map(Project::id).toList()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Project> toCreate = new ArrayList<>();
+        Iterator<Integer> nextOrders = projectRepository.nextOrders(
+                (int) batch.create().stream().filter(dto -> dto.order() == null).count()).iterator();
+        for (ProjectDto dto : batch.create()) {
+            Project project = convertToEntity(dto, null, now);
+            if (project.order() == null) {
+                project = project.withOrder(nextOrders.next());
+            }
+            toCreate.add(project);
+        }
+        List<Project> created = projectRepository.saveAll(toCreate);
+
+        if (!batch.isEmpty()) {
+            changeNotifier.sectionChanged(PortfolioSection.PROJECTS);
+        }
+        log.info("Applied project batch: {} created, {} updated, {} deleted", created.size(), updated.size(), deleted.size());
+
+        return new BatchResult<>(
+                created.stream().map(this::convertToDto).collect(Collectors.toList()),
+                updated.stream().map(this::convertToDto).collect(Collectors.toList()),
+                deleted.size());
+    }
+
+    @Override
+    @Transactional
+    public void reorderProjects(ReorderRequest request) {
+        request.requireDistinctIds();
+        if (projectRepository.count() != request.ids().size()) {
+            throw new IllegalArgumentException("Reorder must list every one of the projects");
+        }
+        if (projectRepository.reorder(request.ids()) < request.ids().size()) {
+            throw new ResourceNotFoundException("Project", "id",
+                    request.missingIds(projectRepository.findExistingIds(request.ids())));
+        }
+        changeNotifier.sectionChanged(PortfolioSection.PROJECTS);
+        log.info("Reordered {} projects", request.ids().size());
+    }
+
+    private <T> ProjectPage<T> publishedPage(
+            ProjectFilter filter, String after, Integer limit, Function<Project, T> mapper) {
+        int size = pageSize(limit);
+        ProjectKey cursor = decodeCursor(after);
+        List<Project> projects = portfolioSnapshot.getSnapshot().projects()
+                .stream()
+                .filter(filter::matches)
+                .filter(project -> cursor == null || ProjectKey.of(project).compareTo(cursor) > 0)
+                .sorted(Comparator.comparing(ProjectKey::of))
+                .limit(size + 1)
+                .toList();
+        return toPage(projects, size, mapper);
+    }
+
+    private <T> ProjectPage<T> toPage(List<Project> projects, int size, Function<Project, T> mapper) {
+        boolean hasMore = projects.size() > size;
+        List<Project> items = hasMore ? projects.subList(0, size) : projects;
+        return new ProjectPage<>(
+                items.stream().map(mapper).collect(Collectors.toList()),
+                hasMore ? encodeCursor(ProjectKey.of(items.getLast())) : null);
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.clamp(limit, 1, MAX_PAGE_SIZE);
+    }
+
+    private static String encodeCursor(ProjectKey key) {
+        String value = (key.order() != null ? key.order().toString() : "") + ":" + key.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ProjectKey decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            String order = value.substring(0, separator);
+            return new ProjectKey(order.isEmpty() ? null : Integer.valueOf(order), UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
     private ProjectDto convertToDto(Project project) {
         return new ProjectDto(
                 project.id(),
@@ -111,6 +298,22 @@ public class ProjectUseCaseService implements ManageProjectUseCase {
         );
     }
 
+    private LocalizedProjectDto convertToLocalizedDto(Project project, ContentLanguage language) {
+        return new LocalizedProjectDto(
+                project.id(),
+                language.select(project.titleEn(), project.titleEs()),
+                language.select(project.descriptionEn(), project.descriptionEs()),
+                project.imageUrls(),
+                project.technologies(),
+                project.githubUrl(),
+                project.liveUrl(),
+                project.type(),
+                project.featured(),
+                project.order(),
+                project.createdAt()
+        );
+    }
+
     private Project convertToEntity(ProjectDto dto, UUID id, LocalDateTime createdAt) {
         return new Project(
                 id,
@@ -140,7 +343,6 @@ public class ProjectUseCaseService implements ManageProjectUseCase {
     }
 
     private Integer getNextOrder() {
-        Integer maxOrder = projectRepository.findMaxOrder();
-        return (maxOrder != null ? maxOrder : 0) + 1;
+        return projectRepository.nextOrders(1).getFirst();
     }
 }
@@ -0,0 +1,18 @@
+package com.gonzalomartinez.portfolio_backend.project.domain;
+
+public record ProjectFilter(
+    ProjectType type,
+    Boolean featured,
+    String technology
+) {
+    public ProjectFilter {
+        technology = technology == null || technology.isBlank() ? null : technology.trim();
+    }
+
+    public boolean matches(Project project) {
+        return (type == null || type == project.type())
+                && (featured == null || featured.equals(project.featured()))
+                && (technology == null || (project.technologies() != null
+                        && project.technologies().stream().anyMatch(technology::equalsIgnoreCase)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.gonzalomartinez.portfolio_backend.project.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+
+// A project's position in display order: projects without an order come last, ties are broken by id
+public record ProjectKey(Integer order, UUID id) implements Comparable<ProjectKey> {
+
+    public ProjectKey {
+        Objects.requireNonNull(id, "id");
+    }
+
+    public static ProjectKey of(Project project) {
+        return new ProjectKey(project.order(), project.id());
+    }
+
+    @Override
+    public int compareTo(ProjectKey other) {
+        if (!Objects.equals(order, other.order)) {
+            if (order == null) {
+                return 1;
+            }
+            return other.order == null ? -1 : Integer.compare(order, other.order);
+        }
+        // Unsigned, matching how PostgreSQL compares uuid values
+        int high = Long.compareUnsigned(id.getMostSignificantBits(), other.id.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(id.getLeastSignificantBits(), other.id.getLeastSignificantBits());
+    }
+}
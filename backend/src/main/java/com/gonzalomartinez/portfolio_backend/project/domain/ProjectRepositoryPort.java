@@ -1,5 +1,6 @@
 package com.gonzalomartinez.portfolio_backend.project.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,9 +8,17 @@ import java.util.UUID;
 public interface ProjectRepositoryPort {
     List<Project> findAllByOrderByOrderAsc();
     List<Project> findByFeaturedTrueOrderByOrderAsc();
+    List<Project> findPage(ProjectFilter filter, ProjectKey after, int limit);
     Optional<Project> findById(UUID id);
     Project save(Project project);
-    void deleteById(UUID id);
+    Optional<Project> update(Project project);
+    boolean deleteById(UUID id);
+    List<Project> saveAll(List<Project> projects);
+    List<Project> updateAll(List<Project> projects);
+    List<UUID> deleteAllById(Collection<UUID> ids);
     boolean existsById(UUID id);
-    Integer findMaxOrder();
+    long count();
+    List<Integer> nextOrders(int count);
+    int reorder(List<UUID> orderedIds);
+    List<UUID> findExistingIds(Collection<UUID> ids);
 }
@@ -2,6 +2,12 @@ package com.gonzalomartinez.portfolio_backend.project.infrastructure.adapter.in.
 
 import com.gonzalomartinez.portfolio_backend.project.application.ProjectDto;
 import com.gonzalomartinez.portfolio_backend.project.application.ManageProjectUseCase;
+import com.gonzalomartinez.portfolio_backend.project.application.ProjectPage;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectFilter;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectType;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +31,16 @@ public class AdminProjectController {
         return ResponseEntity.ok(projectUseCase.getAllProjects());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ProjectPage<ProjectDto>> getProjectPage(
+            @RequestParam(required = false) ProjectType type,
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(required = false) String technology,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(projectUseCase.getProjectPage(new ProjectFilter(type, featured, technology), after, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProjectDto> getProjectById(@PathVariable UUID id) {
         return ResponseEntity.ok(projectUseCase.getProjectById(id));
@@ -46,4 +62,15 @@ public class AdminProjectController {
         projectUseCase.deleteProject(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult<ProjectDto>> applyProjectBatch(@Valid @RequestBody BatchRequest<ProjectDto> batch) {
+        return ResponseEntity.ok(projectUseCase.applyProjectBatch(batch));
+    }
+
+    @PutMapping("/order")
+    public ResponseEntity<Void> reorderProjects(@Valid @RequestBody ReorderRequest request) {
+        projectUseCase.reorderProjects(request);
+        return ResponseEntity.noContent().build();
+    }
 }
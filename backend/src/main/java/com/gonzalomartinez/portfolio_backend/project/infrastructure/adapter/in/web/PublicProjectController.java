@@ -1,31 +1,59 @@
 package com.gonzalomartinez.portfolio_backend.project.infrastructure.adapter.in.web;
 
-import com.gonzalomartinez.portfolio_backend.project.application.ProjectDto;
 import com.gonzalomartinez.portfolio_backend.project.application.ManageProjectUseCase;
+import com.gonzalomartinez.portfolio_backend.project.application.ProjectPage;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectFilter;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectType;
+import com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.web.PublishedResponseCache;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/public/projects")
 public class PublicProjectController {
 
     private final ManageProjectUseCase projectUseCase;
+    private final PublishedResponseCache responseCache;
 
-    public PublicProjectController(ManageProjectUseCase projectUseCase) {
+    public PublicProjectController(ManageProjectUseCase projectUseCase, PublishedResponseCache responseCache) {
         this.projectUseCase = projectUseCase;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectDto>> getAllProjects() {
-        return ResponseEntity.ok(projectUseCase.getAllProjects());
+    public ResponseEntity<byte[]> getAllProjects(
+            @RequestParam(required = false) String lang,
+            HttpServletRequest request) {
+        return responseCache.respond("projects", lang, request,
+                projectUseCase::getPublishedProjects, projectUseCase::getPublishedProjects);
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<ProjectDto>> getFeaturedProjects() {
-        return ResponseEntity.ok(projectUseCase.getFeaturedProjects());
+    public ResponseEntity<byte[]> getFeaturedProjects(
+            @RequestParam(required = false) String lang,
+            HttpServletRequest request) {
+        return responseCache.respond("projects:featured", lang, request,
+                projectUseCase::getPublishedFeaturedProjects, projectUseCase::getPublishedFeaturedProjects);
+    }
+
+    // Paged reads come straight from the in-memory snapshot, so they skip the per-key response cache
+    @GetMapping("/page")
+    public ResponseEntity<ProjectPage<?>> getProjectPage(
+            @RequestParam(required = false) ProjectType type,
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(required = false) String technology,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String lang) {
+        ProjectFilter filter = new ProjectFilter(type, featured, technology);
+        if (lang == null || lang.isBlank()) {
+            return ResponseEntity.ok(projectUseCase.getPublishedProjectPage(filter, after, limit));
+        }
+        return ResponseEntity.ok(projectUseCase.getPublishedProjectPage(filter, after, limit, ContentLanguage.fromCode(lang)));
     }
 }
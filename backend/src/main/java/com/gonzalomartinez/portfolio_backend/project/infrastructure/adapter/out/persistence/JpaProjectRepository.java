@@ -1,25 +1,55 @@
 package com.gonzalomartinez.portfolio_backend.project.infrastructure.adapter.out.persistence;
 
-import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface JpaProjectRepository extends JpaRepository<ProjectEntity, UUID> {
-    @EntityGraph(attributePaths = {"technologies", "imageUrls"})
+public interface JpaProjectRepository extends JpaRepository<ProjectEntity, UUID>, JpaSpecificationExecutor<ProjectEntity> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ProjectEntity> findAllByOrderByOrderAsc();
 
-    @EntityGraph(attributePaths = {"technologies", "imageUrls"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ProjectEntity> findByFeaturedTrueOrderByOrderAsc();
 
-    @EntityGraph(attributePaths = {"technologies", "imageUrls"})
-    Optional<ProjectEntity> findById(UUID id);
+    @Query("SELECT p FROM ProjectEntity p LEFT JOIN FETCH p.imageUrls WHERE p.id IN :ids")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ProjectEntity> fetchImageUrls(@Param("ids") Collection<UUID> ids);
 
-    @Query("SELECT MAX(p.order) FROM ProjectEntity p")
-    Integer findMaxOrder();
+    @Query("SELECT p FROM ProjectEntity p LEFT JOIN FETCH p.technologies WHERE p.id IN :ids")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ProjectEntity> fetchTechnologies(@Param("ids") Collection<UUID> ids);
+
+    @Query(value = "SELECT nextval('projects_display_order_seq') FROM generate_series(1, :count)", nativeQuery = true)
+    List<Long> nextDisplayOrders(@Param("count") int count);
+
+    @Modifying
+    @Query(value = """
+            UPDATE projects t SET display_order = v.position
+            FROM unnest(CAST(:ids AS uuid[])) WITH ORDINALITY AS v(id, position)
+            WHERE t.id = v.id
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"))
+    int reorder(@Param("ids") UUID[] ids);
+
+    @Modifying
+    @Query("DELETE FROM ProjectEntity p WHERE p.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    @Query("SELECT p.id FROM ProjectEntity p WHERE p.id IN :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM ProjectEntity p WHERE p.id IN :ids")
+    int removeAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -2,6 +2,10 @@ package com.gonzalomartinez.portfolio_backend.project.infrastructure.adapter.out
 
 import com.gonzalomartinez.portfolio_backend.project.domain.ProjectType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +15,7 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @Table(name = "projects")
 public class ProjectEntity {
 
@@ -30,13 +35,17 @@ public class ProjectEntity {
     @Column(columnDefinition = "TEXT")
     private String descriptionEs;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
     @ElementCollection(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @CollectionTable(name = "project_images", joinColumns = @JoinColumn(name = "project_id"))
     @Column(name = "image_url", length = 500)
     @OrderColumn(name = "image_order")
     private List<String> imageUrls = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
     @ElementCollection(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @CollectionTable(name = "project_technologies", joinColumns = @JoinColumn(name = "project_id"))
     @Column(name = "technology")
     private List<String> technologies = new ArrayList<>();
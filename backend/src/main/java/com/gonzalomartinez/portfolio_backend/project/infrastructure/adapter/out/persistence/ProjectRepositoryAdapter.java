@@ -1,12 +1,20 @@
 package com.gonzalomartinez.portfolio_backend.project.infrastructure.adapter.out.persistence;
 
 import com.gonzalomartinez.portfolio_backend.project.domain.Project;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectFilter;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectKey;
 import com.gonzalomartinez.portfolio_backend.project.domain.ProjectRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.persistence.ElementCollections;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -20,18 +28,20 @@ public class ProjectRepositoryAdapter implements ProjectRepositoryPort {
 
     @Override
     public List<Project> findAllByOrderByOrderAsc() {
-        return jpaProjectRepository.findAllByOrderByOrderAsc()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return withCollections(jpaProjectRepository.findAllByOrderByOrderAsc());
     }
 
     @Override
     public List<Project> findByFeaturedTrueOrderByOrderAsc() {
-        return jpaProjectRepository.findByFeaturedTrueOrderByOrderAsc()
-                .stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return withCollections(jpaProjectRepository.findByFeaturedTrueOrderByOrderAsc());
+    }
+
+    @Override
+    public List<Project> findPage(ProjectFilter filter, ProjectKey after, int limit) {
+        Specification<ProjectEntity> spec = ProjectSpecifications.matching(filter)
+                .and(ProjectSpecifications.after(after));
+        return withCollections(jpaProjectRepository.findBy(spec,
+                query -> query.sortBy(ProjectSpecifications.DISPLAY_ORDER).limit(limit).all()));
     }
 
     @Override
@@ -47,8 +57,53 @@ public class ProjectRepositoryAdapter implements ProjectRepositoryPort {
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaProjectRepository.deleteById(id);
+    public Optional<Project> update(Project project) {
+        return jpaProjectRepository.findById(project.id()).map(entity -> {
+            applyTo(entity, project);
+            return toDomain(entity);
+        });
+    }
+
+    @Override
+    public boolean deleteById(UUID id) {
+        return jpaProjectRepository.removeById(id) > 0;
+    }
+
+    @Override
+    public List<Project> saveAll(List<Project> projects) {
+        List<ProjectEntity> entities = projects.stream().map(this::toEntity).collect(Collectors.toList());
+        return jpaProjectRepository.saveAll(entities)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Project> updateAll(List<Project> projects) {
+        Map<UUID, ProjectEntity> entities = jpaProjectRepository.findAllById(projects.stream().map(Project::id).toList())
+                .stream()
+                .collect(Collectors.toMap(ProjectEntity::getId, Function.identity()));
+        List<Project> updated = new ArrayList<>();
+        for (Project project : projects) {
+            ProjectEntity entity = entities.get(project.id());
+            if (entity != null) {
+                applyTo(entity, project);
+                updated.add(toDomain(entity));
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public List<UUID> deleteAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> existing = jpaProjectRepository.findIdsByIdIn(ids);
+        if (!existing.isEmpty()) {
+            jpaProjectRepository.removeAllByIdIn(existing);
+        }
+        return existing;
     }
 
     @Override
@@ -57,8 +112,52 @@ public class ProjectRepositoryAdapter implements ProjectRepositoryPort {
     }
 
     @Override
-    public Integer findMaxOrder() {
-        return jpaProjectRepository.findMaxOrder();
+    public long count() {
+        return jpaProjectRepository.count();
+    }
+
+    @Override
+    public List<Integer> nextOrders(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        return jpaProjectRepository.nextDisplayOrders(count).stream().map(Long::intValue).sorted().toList();
+    }
+
+    @Override
+    public int reorder(List<UUID> orderedIds) {
+        return orderedIds.isEmpty() ? 0 : jpaProjectRepository.reorder(orderedIds.toArray(UUID[]::new));
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : jpaProjectRepository.findIdsByIdIn(ids);
+    }
+
+    // One IN-list query per collection for just these projects; joining both at once returns images x technologies rows
+    private List<Project> withCollections(List<ProjectEntity> entities) {
+        if (!entities.isEmpty()) {
+            List<UUID> ids = entities.stream().map(ProjectEntity::getId).toList();
+            jpaProjectRepository.fetchImageUrls(ids);
+            jpaProjectRepository.fetchTechnologies(ids);
+        }
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private void applyTo(ProjectEntity entity, Project project) {
+        entity.setTitleEn(project.titleEn());
+        entity.setTitleEs(project.titleEs());
+        entity.setDescriptionEn(project.descriptionEn());
+        entity.setDescriptionEs(project.descriptionEs());
+        ElementCollections.replaceIfChanged(entity.getImageUrls(), project.imageUrls());
+        ElementCollections.replaceIfChanged(entity.getTechnologies(), project.technologies());
+        entity.setGithubUrl(project.githubUrl());
+        entity.setLiveUrl(project.liveUrl());
+        entity.setType(project.type());
+        entity.setFeatured(project.featured());
+        entity.setOrder(project.order());
     }
 
     private Project toDomain(ProjectEntity entity) {
@@ -68,8 +167,9 @@ public class ProjectRepositoryAdapter implements ProjectRepositoryPort {
                 entity.getTitleEs(),
                 entity.getDescriptionEn(),
                 entity.getDescriptionEs(),
-                entity.getImageUrls() != null ? entity.getImageUrls() : List.of(),
-                entity.getTechnologies() != null ? entity.getTechnologies() : List.of(),
+                // Copied while the session is open, so the domain object never holds a lazy Hibernate collection
+                entity.getImageUrls() != null ? new ArrayList<>(entity.getImageUrls()) : List.of(),
+                entity.getTechnologies() != null ? new ArrayList<>(entity.getTechnologies()) : List.of(),
                 entity.getGithubUrl(),
                 entity.getLiveUrl(),
                 entity.getType(),
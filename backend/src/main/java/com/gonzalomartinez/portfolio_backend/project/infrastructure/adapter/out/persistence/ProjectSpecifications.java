@@ -0,0 +1,64 @@
+package com.gonzalomartinez.portfolio_backend.project.infrastructure.adapter.out.persistence;
+
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectFilter;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectKey;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+final class ProjectSpecifications {
+
+    // Same order as ProjectKey, and served by the (display_order, id) index
+    static final Sort DISPLAY_ORDER = Sort.by(Sort.Order.asc("order").nullsLast(), Sort.Order.asc("id"));
+
+    private ProjectSpecifications() {
+    }
+
+    static Specification<ProjectEntity> matching(ProjectFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.type() != null) {
+                predicates.add(cb.equal(root.get("type"), filter.type()));
+            }
+            if (filter.featured() != null) {
+                predicates.add(cb.equal(root.get("featured"), filter.featured()));
+            }
+            if (filter.technology() != null) {
+                // EXISTS keeps one row per project, where a join would repeat it per matching technology
+                Subquery<Integer> technology = query.subquery(Integer.class);
+                Root<ProjectEntity> project = technology.correlate(root);
+                Join<ProjectEntity, String> name = project.join("technologies");
+                technology.select(cb.literal(1))
+                        .where(cb.equal(cb.lower(name), filter.technology().toLowerCase(Locale.ROOT)));
+                predicates.add(cb.exists(technology));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    static Specification<ProjectEntity> after(ProjectKey key) {
+        if (key == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> {
+            Path<Integer> order = root.get("order");
+            Path<UUID> id = root.get("id");
+            if (key.order() == null) {
+                return cb.and(cb.isNull(order), cb.greaterThan(id, key.id()));
+            }
+            return cb.or(
+                    cb.greaterThan(order, key.order()),
+                    cb.and(cb.equal(order, key.order()), cb.greaterThan(id, key.id())),
+                    cb.isNull(order));
+        };
+    }
+}
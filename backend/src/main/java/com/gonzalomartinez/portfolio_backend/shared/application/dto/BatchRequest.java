@@ -0,0 +1,67 @@
+package com.gonzalomartinez.portfolio_backend.shared.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+public record BatchRequest<T>(
+    @Size(max = 200, message = "A batch may create at most 200 items")
+    List<@Valid T> create,
+
+    @Size(max = 200, message = "A batch may update at most 200 items")
+    List<@Valid T> update,
+
+    @Size(max = 200, message = "A batch may delete at most 200 items")
+    List<UUID> delete
+) {
+    public BatchRequest {
+        create = create != null ? create : List.of();
+        update = update != null ? update : List.of();
+        delete = delete != null ? delete : List.of();
+    }
+
+    public boolean isEmpty() {
+        return create.isEmpty() && update.isEmpty() && delete.isEmpty();
+    }
+
+    // Every update must name its target, and no item may be touched twice in one batch
+    public void requireDistinctIds(Function<T, UUID> idOf) {
+        Set<UUID> seen = new HashSet<>();
+        for (T item : update) {
+            UUID id = idOf.apply(item);
+            if (id == null) {
+                throw new IllegalArgumentException("Every update in a batch must include an id");
+            }
+            if (!seen.add(id)) {
+                throw new IllegalArgumentException("Id appears more than once in batch: " + id);
+            }
+        }
+        for (UUID id : delete) {
+            if (id == null || !seen.add(id)) {
+                throw new IllegalArgumentException("Id appears more than once in batch: " + id);
+            }
+        }
+    }
+
+    public UUID firstMissingUpdate(Function<T, UUID> idOf, Collection<UUID> updatedIds) {
+        Set<UUID> found = new HashSet<>(updatedIds);
+        return update.stream()
+                .map(idOf)
+                .filter(id -> !found.contains(id))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public List<UUID> missingDeletes(Collection<UUID> deletedIds) {
+        Set<UUID> found = new HashSet<>(deletedIds);
+        return delete.stream()
+                .filter(id -> !found.contains(id))
+                .toList();
+    }
+}
@@ -0,0 +1,9 @@
+package com.gonzalomartinez.portfolio_backend.shared.application.dto;
+
+import java.util.List;
+
+public record BatchResult<T>(
+    List<T> created,
+    List<T> updated,
+    int deleted
+) {}
@@ -0,0 +1,33 @@
+package com.gonzalomartinez.portfolio_backend.shared.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public record ReorderRequest(
+    @NotEmpty(message = "Ids are required")
+    @Size(max = 1000, message = "A reorder may list at most 1000 items")
+    List<@NotNull UUID> ids
+) {
+    public void requireDistinctIds() {
+        Set<UUID> seen = new HashSet<>();
+        for (UUID id : ids) {
+            if (!seen.add(id)) {
+                throw new IllegalArgumentException("Id appears more than once in reorder: " + id);
+            }
+        }
+    }
+
+    public List<UUID> missingIds(Collection<UUID> existingIds) {
+        Set<UUID> found = new HashSet<>(existingIds);
+        return ids.stream()
+                .filter(id -> !found.contains(id))
+                .toList();
+    }
+}
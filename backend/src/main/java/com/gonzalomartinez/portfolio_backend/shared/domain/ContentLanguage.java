@@ -0,0 +1,25 @@
+package com.gonzalomartinez.portfolio_backend.shared.domain;
+
+import java.util.Locale;
+
+public enum ContentLanguage {
+    EN,
+    ES;
+
+    public String select(String en, String es) {
+        return this == EN ? en : es;
+    }
+
+    public String code() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static ContentLanguage fromCode(String code) {
+        for (ContentLanguage language : values()) {
+            if (language.code().equalsIgnoreCase(code.trim())) {
+                return language;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported language: " + code);
+    }
+}
@@ -0,0 +1,46 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "app.jpa-cache")
+public class JpaCacheProperties {
+    private boolean enabled = false;
+    private long queryResultsMaxEntries = 500;
+    // Region name -> maximum entries; an entity region also holds its collections
+    private Map<String, Long> regions = new LinkedHashMap<>(Map.of(
+            "projects", 2_000L,
+            "experiences", 1_000L,
+            "skills", 500L,
+            "spoken-languages", 100L,
+            "profile", 10L
+    ));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getQueryResultsMaxEntries() {
+        return queryResultsMaxEntries;
+    }
+
+    public void setQueryResultsMaxEntries(long queryResultsMaxEntries) {
+        this.queryResultsMaxEntries = queryResultsMaxEntries;
+    }
+
+    public Map<String, Long> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Long> regions) {
+        this.regions = regions;
+    }
+}
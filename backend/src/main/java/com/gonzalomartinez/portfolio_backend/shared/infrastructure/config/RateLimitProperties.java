@@ -11,6 +11,13 @@ public class RateLimitProperties {
     private int adminTokens = 10;
     private int publicCapacity = 50;
     private int publicTokens = 5;
+    private int maxBuckets = 100_000;
+    private long bucketIdleTimeoutSeconds = 600;
+    private long sweepIntervalSeconds = 60;
+    private String backend = "memory";
+    private int leaseSize = 5;
+    private long leaseTtlMillis = 1_000;
+    private long storeRetryMillis = 10_000;
 
     public boolean isEnabled() {
         return enabled;
@@ -51,4 +58,60 @@ public class RateLimitProperties {
     public void setPublicTokens(int publicTokens) {
         this.publicTokens = publicTokens;
     }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public long getBucketIdleTimeoutSeconds() {
+        return bucketIdleTimeoutSeconds;
+    }
+
+    public void setBucketIdleTimeoutSeconds(long bucketIdleTimeoutSeconds) {
+        this.bucketIdleTimeoutSeconds = bucketIdleTimeoutSeconds;
+    }
+
+    public long getSweepIntervalSeconds() {
+        return sweepIntervalSeconds;
+    }
+
+    public void setSweepIntervalSeconds(long sweepIntervalSeconds) {
+        this.sweepIntervalSeconds = sweepIntervalSeconds;
+    }
+
+    public String getBackend() {
+        return backend;
+    }
+
+    public void setBackend(String backend) {
+        this.backend = backend;
+    }
+
+    public int getLeaseSize() {
+        return leaseSize;
+    }
+
+    public void setLeaseSize(int leaseSize) {
+        this.leaseSize = leaseSize;
+    }
+
+    public long getLeaseTtlMillis() {
+        return leaseTtlMillis;
+    }
+
+    public void setLeaseTtlMillis(long leaseTtlMillis) {
+        this.leaseTtlMillis = leaseTtlMillis;
+    }
+
+    public long getStoreRetryMillis() {
+        return storeRetryMillis;
+    }
+
+    public void setStoreRetryMillis(long storeRetryMillis) {
+        this.storeRetryMillis = storeRetryMillis;
+    }
 }
@@ -0,0 +1,23 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("portfolio.EmailSend")
+@Label("Email Send")
+@Category({"Portfolio", "Email"})
+@StackTrace(false)
+public class EmailSendEvent extends Event {
+
+    @Label("Provider")
+    public String provider;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("HTTP Status")
+    public int status;
+}
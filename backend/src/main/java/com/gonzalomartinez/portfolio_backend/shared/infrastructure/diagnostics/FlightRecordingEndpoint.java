@@ -0,0 +1,165 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics;
+
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// POST starts a recording, DELETE stops it, GET downloads what has been recorded so far (also while it is running)
+@Component
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+
+    static final List<String> SECRET_BEARING_EVENTS =
+            List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation", "jdk.SystemProcess");
+
+    private final String defaultSettings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private Recording recording;
+    private String recordingSettings;
+    private final Set<Path> pendingDumps = ConcurrentHashMap.newKeySet();
+
+    public FlightRecordingEndpoint(
+            @Value("${app.jfr.settings:default}") String defaultSettings,
+            @Value("${app.jfr.max-age:1h}") Duration maxAge,
+            @Value("${app.jfr.max-size:100MB}") DataSize maxSize) {
+        this.defaultSettings = defaultSettings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    @WriteOperation
+    public synchronized RecordingStatus start(@Nullable String settings) throws IOException, ParseException {
+        String configuration = settings != null ? settings : defaultSettings;
+        Recording started = new Recording(Configuration.getConfiguration(configuration));
+        started.setName("portfolio");
+        started.setToDisk(true);
+        // Bounded, so a recording nobody stops cannot fill the container disk
+        started.setMaxAge(maxAge);
+        started.setMaxSize(maxSize.toBytes());
+        // These capture the environment, system properties and command lines (ours and other processes'), which hold secrets
+        for (String event : SECRET_BEARING_EVENTS) {
+            started.disable(event);
+        }
+
+        closeRecording();
+        started.start();
+        recording = started;
+        recordingSettings = configuration;
+        log.info("Started flight recording with '{}' settings", configuration);
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized RecordingStatus stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped flight recording after {}", Duration.between(recording.getStartTime(), recording.getStopTime()));
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download() throws IOException {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path dump = Files.createTempFile("portfolio-", ".jfr");
+        pendingDumps.add(dump);
+        try {
+            recording.dump(dump);
+        } catch (IOException | RuntimeException e) {
+            deleteDump(dump);
+            throw e;
+        }
+        return new WebEndpointResponse<>(new DumpResource(dump));
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        closeRecording();
+        for (Path dump : pendingDumps) {
+            try {
+                deleteDump(dump);
+            } catch (IOException e) {
+                log.warn("Could not delete flight recording dump {}: {}", dump, e.getMessage());
+            }
+        }
+    }
+
+    private RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus(null, null, null, null, 0);
+        }
+        return new RecordingStatus(recording.getState().name(), recordingSettings,
+                recording.getStartTime(), recording.getStopTime(), recording.getSize());
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteDump(Path dump) throws IOException {
+        pendingDumps.remove(dump);
+        Files.deleteIfExists(dump);
+    }
+
+    // Each download owns its dump and deletes it once its own response has streamed it, so a second download
+    // never pulls the file from under one still in progress
+    private final class DumpResource extends FileSystemResource {
+
+        private final Path dump;
+
+        private DumpResource(Path dump) {
+            super(dump);
+            this.dump = dump;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deleteDump(dump);
+                    }
+                }
+            };
+        }
+    }
+
+    public record RecordingStatus(String state, String settings, Instant startedAt, Instant stoppedAt, long sizeBytes) {}
+}
@@ -0,0 +1,23 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("portfolio.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"Portfolio", "Security"})
+@StackTrace(false)
+public class JwtAuthenticationEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Authenticated")
+    public boolean authenticated;
+
+    @Label("Failure")
+    public String failure;
+}
@@ -0,0 +1,25 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("portfolio.RateLimit")
+@Label("Rate Limit Check")
+@Description("Token bucket lookup for one request, including the database round trip when limits are shared")
+@Category({"Portfolio", "Security"})
+@StackTrace(false)
+public class RateLimitEvent extends Event {
+
+    @Label("Tier")
+    public String tier;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Accepted")
+    public boolean accepted;
+}
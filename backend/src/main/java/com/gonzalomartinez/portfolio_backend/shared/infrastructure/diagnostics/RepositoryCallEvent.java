@@ -0,0 +1,23 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("portfolio.RepositoryCall")
+@Label("Repository Call")
+@Category({"Portfolio", "Persistence"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
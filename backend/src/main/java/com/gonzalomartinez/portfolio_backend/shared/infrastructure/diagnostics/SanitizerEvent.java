@@ -0,0 +1,25 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("portfolio.Sanitizer")
+@Label("Input Sanitization")
+@Category({"Portfolio", "Security"})
+@StackTrace(false)
+public class SanitizerEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Input Length")
+    public int inputLength;
+
+    @Label("Flagged")
+    @Description("Input was rewritten by sanitize, or matched the pattern in containsSqlInjection")
+    public boolean flagged;
+}
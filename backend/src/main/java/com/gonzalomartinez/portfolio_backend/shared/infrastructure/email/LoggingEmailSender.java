@@ -0,0 +1,20 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.email;
+
+import com.gonzalomartinez.portfolio_backend.user.application.EmailSenderPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+// Offline stand-in for Resend: the reset link goes to the log instead of an inbox
+@Service
+@ConditionalOnProperty(prefix = "app.email", name = "sender", havingValue = "log")
+public class LoggingEmailSender implements EmailSenderPort {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingEmailSender.class);
+
+    @Override
+    public void sendPasswordResetEmail(String to, String resetLink) {
+        log.info("Password reset email for {}: {}", to, resetLink);
+    }
+}
@@ -1,38 +1,91 @@
 package com.gonzalomartinez.portfolio_backend.shared.infrastructure.email;
 
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.config.ResendProperties;
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics.EmailSendEvent;
 import com.gonzalomartinez.portfolio_backend.user.application.EmailSenderPort;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.EmailSendException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClient;
 
-import java.util.HashMap;
+import java.net.http.HttpClient;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 @Service
+@ConditionalOnProperty(prefix = "app.email", name = "sender", havingValue = "resend", matchIfMissing = true)
 public class ResendEmailService implements EmailSenderPort {
 
     private static final Logger log = LoggerFactory.getLogger(ResendEmailService.class);
 
+    private final HttpClient httpClient;
     private final RestClient restClient;
     private final String fromEmail;
+    private final CircuitBreaker circuitBreaker;
+    private final Timer sent;
+    private final Timer failed;
+    private final Counter rejected;
 
-    public ResendEmailService(
-            @Value("${resend.api-key}") String apiKey,
-            @Value("${resend.from-email}") String fromEmail) {
-        this.fromEmail = fromEmail;
+    @Autowired
+    public ResendEmailService(ResendProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    ResendEmailService(ResendProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.fromEmail = properties.getFromEmail();
+        // The JDK client keeps connections alive and multiplexes over HTTP/2 when the provider offers it
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
         this.restClient = RestClient.builder()
-                .baseUrl("https://api.resend.com")
-                .defaultHeader("Authorization", "Bearer " + apiKey)
+                .requestFactory(requestFactory)
+                .baseUrl(properties.getBaseUrl())
+                .defaultHeader("Authorization", "Bearer " + properties.getApiKey())
                 .defaultHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
                 .build();
+        this.circuitBreaker = new CircuitBreaker(
+                properties.getCircuitBreakerFailureThreshold(), properties.getCircuitBreakerOpenDuration(), nanoClock);
+        this.sent = sendTimer(meterRegistry, "success");
+        this.failed = sendTimer(meterRegistry, "failure");
+        this.rejected = Counter.builder("email.circuit_breaker.rejections")
+                .description("Sends refused without calling the provider because the breaker was open")
+                .register(meterRegistry);
+        Gauge.builder("email.circuit_breaker.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("Email provider circuit breaker: 0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void close() {
+        httpClient.close();
     }
 
     @Override
     public void sendPasswordResetEmail(String to, String resetLink) {
+        EmailSendEvent event = new EmailSendEvent();
+        event.begin();
+        if (!circuitBreaker.tryAcquire()) {
+            rejected.increment();
+            commit(event, "rejected", 0);
+            throw new EmailSendException("Email provider circuit is open, not sending to " + to);
+        }
+
         Map<String, Object> body = Map.of(
                 "from", fromEmail,
                 "to", to,
@@ -40,20 +93,59 @@ public class ResendEmailService implements EmailSenderPort {
                 "html", buildEmailHtml(resetLink)
         );
 
+        Timer.Sample sample = Timer.start();
         try {
-            String response = restClient.post()
+            ResponseEntity<String> response = restClient.post()
                     .uri("/emails")
                     .body(body)
                     .retrieve()
-                    .body(String.class);
+                    .toEntity(String.class);
+            circuitBreaker.onSuccess();
+            sample.stop(sent);
+            commit(event, "success", response.getStatusCode().value());
             log.info("Password reset email sent to: {}", to);
-            log.debug("Resend response: {}", response);
-        } catch (Exception e) {
+            log.debug("Resend response: {}", response.getBody());
+        } catch (RuntimeException e) {
+            if (isProviderFailure(e)) {
+                circuitBreaker.onFailure();
+            } else {
+                // The provider answered, so it is healthy even though it refused this email
+                circuitBreaker.onSuccess();
+            }
+            sample.stop(failed);
+            commit(event, "failure", e instanceof HttpStatusCodeException status ? status.getStatusCode().value() : 0);
             log.error("Failed to send password reset email to {}: {}", to, e.getMessage());
             throw new EmailSendException("Failed to send password reset email", e);
         }
     }
 
+    private static void commit(EmailSendEvent event, String outcome, int status) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.provider = "resend";
+            event.outcome = outcome;
+            event.status = status;
+            event.commit();
+        }
+    }
+
+    // Timeouts, connection errors, 5xx and throttling count against the breaker; other 4xx are our own mistakes
+    private static boolean isProviderFailure(RuntimeException e) {
+        if (e instanceof HttpStatusCodeException status) {
+            return status.getStatusCode().is5xxServerError()
+                    || status.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("email.send")
+                .description("Calls to the email provider")
+                .tag("provider", "resend")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     private String buildEmailHtml(String resetLink) {
         return """
                 <div style="font-family: Arial, sans-serif; max-width: 500px; margin: 0 auto;">
@@ -0,0 +1,18 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ElementCollections {
+
+    private ElementCollections() {}
+
+    // Swapping in a new list makes Hibernate delete and reinsert every row, so only touch it on a real change
+    public static void replaceIfChanged(List<String> current, List<String> updated) {
+        List<String> target = updated != null ? updated : List.of();
+        if (!new ArrayList<>(current).equals(target)) {
+            current.clear();
+            current.addAll(target);
+        }
+    }
+}
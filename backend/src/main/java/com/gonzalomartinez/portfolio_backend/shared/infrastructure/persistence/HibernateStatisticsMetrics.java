@@ -0,0 +1,69 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+// Hibernate 7 ships no micrometer module, so Boot's Hibernate metrics never activate; this binds the same counters
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+
+        counter(registry, statistics, "hibernate.sessions.open", "Sessions opened", Statistics::getSessionOpenCount);
+        counter(registry, statistics, "hibernate.transactions", "Transactions committed", Statistics::getSuccessfulTransactionCount,
+                "result", "success");
+        counter(registry, statistics, "hibernate.statements", "JDBC statements prepared", Statistics::getPrepareStatementCount);
+        counter(registry, statistics, "hibernate.flushes", "Session flushes", Statistics::getFlushCount);
+        counter(registry, statistics, "hibernate.query.executions", "Queries executed", Statistics::getQueryExecutionCount);
+
+        counter(registry, statistics, "hibernate.entities", "Entities loaded", Statistics::getEntityLoadCount, "operation", "load");
+        counter(registry, statistics, "hibernate.entities", "Entities fetched lazily", Statistics::getEntityFetchCount, "operation", "fetch");
+        counter(registry, statistics, "hibernate.entities", "Entities inserted", Statistics::getEntityInsertCount, "operation", "insert");
+        counter(registry, statistics, "hibernate.entities", "Entities updated", Statistics::getEntityUpdateCount, "operation", "update");
+        counter(registry, statistics, "hibernate.entities", "Entities deleted", Statistics::getEntityDeleteCount, "operation", "delete");
+        counter(registry, statistics, "hibernate.collections", "Collections loaded", Statistics::getCollectionLoadCount, "operation", "load");
+        counter(registry, statistics, "hibernate.collections", "Collections fetched lazily", Statistics::getCollectionFetchCount,
+                "operation", "fetch");
+
+        counter(registry, statistics, "hibernate.second_level_cache.requests", "Second-level cache lookups",
+                Statistics::getSecondLevelCacheHitCount, "result", "hit");
+        counter(registry, statistics, "hibernate.second_level_cache.requests", "Second-level cache lookups",
+                Statistics::getSecondLevelCacheMissCount, "result", "miss");
+        counter(registry, statistics, "hibernate.query_cache.requests", "Query cache lookups",
+                Statistics::getQueryCacheHitCount, "result", "hit");
+        counter(registry, statistics, "hibernate.query_cache.requests", "Query cache lookups",
+                Statistics::getQueryCacheMissCount, "result", "miss");
+
+        Gauge.builder("hibernate.query.executions.max", statistics, Statistics::getQueryExecutionMaxTime)
+                .description("Slowest query execution so far")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, Statistics statistics, String name, String description,
+                                ToDoubleFunction<Statistics> count, String... tags) {
+        FunctionCounter.builder(name, statistics, count)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@Endpoint(id = "jpacache")
+@ConditionalOnProperty(prefix = "app.jpa-cache", name = "enabled", havingValue = "true")
+public class JpaCacheStatisticsEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public JpaCacheStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @ReadOperation
+    public CacheStatistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.put(region, new RegionStatistics(
+                        regionStatistics.getHitCount(),
+                        regionStatistics.getMissCount(),
+                        regionStatistics.getPutCount()));
+            }
+        }
+        RegionStatistics queries = new RegionStatistics(
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount());
+        return new CacheStatistics(regions, queries);
+    }
+
+    public record CacheStatistics(Map<String, RegionStatistics> regions, RegionStatistics queryCache) {}
+
+    public record RegionStatistics(long hits, long misses, long puts) {}
+}
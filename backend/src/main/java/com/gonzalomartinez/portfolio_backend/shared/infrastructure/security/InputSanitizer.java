@@ -1,6 +1,7 @@
 package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
 
 import com.gonzalomartinez.portfolio_backend.shared.application.SanitizerPort;
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics.SanitizerEvent;
 import org.springframework.stereotype.Component;
 
 import java.util.regex.Pattern;
@@ -8,8 +9,6 @@ import java.util.regex.Pattern;
 @Component
 public class InputSanitizer implements SanitizerPort {
     
-    private static final Pattern HTML_PATTERN = Pattern.compile("<[^>]*>");
-    private static final Pattern SCRIPT_PATTERN = Pattern.compile("<script[^>]*>.*?</script>", Pattern.CASE_INSENSITIVE);
     private static final Pattern SQL_INJECTION_PATTERN = Pattern.compile(
             "'[^']*(--|;|/\\*|\\*/|xp_|sp_|exec|execute|select|insert|update|delete|drop|create|alter|union)",
             Pattern.CASE_INSENSITIVE
@@ -19,27 +18,124 @@ public class InputSanitizer implements SanitizerPort {
         if (input == null || input.isBlank()) {
             return input;
         }
-        
-        // Remove script tags
-        input = input.replaceAll("(?i)<script[^>]*>.*?</script>", "");
-        
-        // Remove all HTML tags to prevent XSS
-        input = input.replaceAll("<[^>]*>", "");
-        
-        // Remove non-printable control characters but keep format (newlines, tabs)
-        // This maintains strict security against hidden control chars while preserving text structure
-        input = input.replaceAll("[\\p{Cntrl}&&[^\\r\\n\\t]]", "");
-        
-        String sanitized = input.trim();
-        
+        SanitizerEvent event = new SanitizerEvent();
+        event.begin();
+        String sanitized = strip(input);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "sanitize";
+            event.inputLength = input.length();
+            event.flagged = !sanitized.equals(input);
+            event.commit();
+        }
         return sanitized;
     }
+
+    // Single pass equivalent of stripping script blocks, then tags, then control characters (keeping \r, \n, \t)
+    private static String strip(String input) {
+        if (!needsStripping(input)) {
+            return input.trim();
+        }
+
+        StringBuilder out = new StringBuilder(input.length());
+        int tagStart = -1;
+        int i = 0;
+        while (i < input.length()) {
+            char c = input.charAt(i);
+            if (c == '<') {
+                int scriptEnd = scriptBlockEnd(input, i);
+                if (scriptEnd > 0) {
+                    i = scriptEnd;
+                    continue;
+                }
+                // A tag only disappears once its closing '>' shows up; until then it is kept as text
+                if (tagStart < 0) {
+                    tagStart = out.length();
+                }
+                out.append(c);
+            } else if (c == '>' && tagStart >= 0) {
+                out.setLength(tagStart);
+                tagStart = -1;
+            } else if (!isStrippedControl(c)) {
+                out.append(c);
+            }
+            i++;
+        }
+
+        String sanitized = out.toString().trim();
+        return sanitized.equals(input) ? input : sanitized;
+    }
+
+    private static boolean needsStripping(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '<' || isStrippedControl(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Matches <script[^>]*>.*?</script> case-insensitively, where '.' does not cross line terminators
+    private static int scriptBlockEnd(String input, int start) {
+        if (!regionMatchesIgnoreAsciiCase(input, start + 1, "script")) {
+            return -1;
+        }
+        int openEnd = input.indexOf('>', start + 7);
+        if (openEnd < 0) {
+            return -1;
+        }
+        for (int j = openEnd + 1; j < input.length(); j++) {
+            char c = input.charAt(j);
+            if (c == '<' && regionMatchesIgnoreAsciiCase(input, j, "</script>")) {
+                return j + 9;
+            }
+            if (isLineTerminator(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatchesIgnoreAsciiCase(String input, int offset, String lowerCase) {
+        if (offset + lowerCase.length() > input.length()) {
+            return false;
+        }
+        for (int k = 0; k < lowerCase.length(); k++) {
+            char c = input.charAt(offset + k);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != lowerCase.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStrippedControl(char c) {
+        return (c < 0x20 && c != '\r' && c != '\n' && c != '\t') || c == 0x7F;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
     
     public boolean containsSqlInjection(String input) {
         if (input == null) {
             return false;
         }
-        return SQL_INJECTION_PATTERN.matcher(input).find();
+        SanitizerEvent event = new SanitizerEvent();
+        event.begin();
+        boolean found = SQL_INJECTION_PATTERN.matcher(input).find();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "containsSqlInjection";
+            event.inputLength = input.length();
+            event.flagged = found;
+            event.commit();
+        }
+        return found;
     }
     
     public String sanitizeUrl(String url) {
@@ -1,5 +1,6 @@
 package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
 
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics.JwtAuthenticationEvent;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -38,24 +39,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
         try {
             final String jwt = authHeader.substring(7);
-            final String username = jwtService.extractUsername(jwt);
+            final VerifiedToken verified = jwtService.verify(jwt);
+            final String username = verified.subject();
             
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtService.validateToken(jwt, username)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            username,
-                            null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN"))
-                    );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        username,
+                        null,
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN"))
+                );
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
+            event.authenticated = username != null;
         } catch (Exception e) {
+            event.failure = e.getClass().getSimpleName();
             logger.error("JWT authentication error: " + e.getMessage());
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = request.getRequestURI();
+            event.commit();
+        }
         
         filterChain.doFilter(request, response);
     }
@@ -1,10 +1,12 @@
 package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -13,20 +15,43 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 import com.gonzalomartinez.portfolio_backend.user.application.TokenGeneratorPort;
 
 @Service
 public class JwtService implements TokenGeneratorPort {
 
-    private static final Logger log = LoggerFactory.getLogger(JwtService.class);
-    
-    @Value("${jwt.secret}")
-    private String secret;
-    
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Long expiration;
+    private final VerifiedTokenCache tokenCache;
+    private final Timer cachedVerifications;
+    private final Timer signatureVerifications;
+    private final Timer rejectedVerifications;
+
+    public JwtService(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") Long expiration,
+            VerifiedTokenCache tokenCache,
+            MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.expiration = expiration;
+        this.tokenCache = tokenCache;
+        this.cachedVerifications = verificationTimer(meterRegistry, "cached");
+        this.signatureVerifications = verificationTimer(meterRegistry, "verified");
+        this.rejectedVerifications = verificationTimer(meterRegistry, "rejected");
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verification")
+                .description("Time to verify a bearer token, by whether the cache answered or the signature was checked")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
     
     public String generateToken(String username) {
         Map<String, Object> claims = new HashMap<>();
@@ -42,42 +67,55 @@ public class JwtService implements TokenGeneratorPort {
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
-    
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+
+    // Verifies the signature once per distinct token; repeats are served from the cache until the token expires
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        String key = tokenCache.keyFor(token);
+        if (tokenCache.isRevoked(key)) {
+            rejectedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new JwtException("Token has been revoked");
+        }
+        VerifiedToken cached = tokenCache.get(key);
+        if (cached != null) {
+            cachedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = extractAllClaims(token);
+        } catch (RuntimeException e) {
+            rejectedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        Date expiresAt = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), expiresAt != null ? expiresAt.toInstant() : null);
+        tokenCache.put(key, verified);
+        signatureVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verified;
     }
-    
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+
+    public void revokeToken(String token) {
+        VerifiedToken verified = verify(token);
+        if (verified.expiresAt() != null) {
+            tokenCache.revoke(tokenCache.keyFor(token), verified.expiresAt());
+        }
     }
     
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public String verifySubject(String token) {
+        return verify(token).subject();
     }
-    
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-    
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return parser.parseSignedClaims(token).getPayload();
     }
     
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
-    }
-    
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        VerifiedToken verified = verify(token);
+        return verified.subject() != null && verified.subject().equals(username);
     }
 }
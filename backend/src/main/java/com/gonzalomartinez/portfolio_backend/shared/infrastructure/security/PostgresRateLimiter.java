@@ -0,0 +1,289 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "backend", havingValue = "postgres")
+public class PostgresRateLimiter implements RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresRateLimiter.class);
+
+    // Refills, credits back what the expired lease left unused, grants up to :lease whole tokens and debits them
+    // in one atomic statement; the grant is returned
+    private static final String LEASE_SQL = """
+            INSERT INTO rate_limit_buckets AS b (bucket_key, tokens, last_grant, refilled_at)
+            VALUES (:key, :capacity - LEAST(:lease, :capacity), LEAST(:lease, :capacity), statement_timestamp())
+            ON CONFLICT (bucket_key) DO UPDATE SET
+                last_grant = LEAST(:lease, FLOOR(LEAST(:capacity,
+                        b.tokens + :unused + EXTRACT(EPOCH FROM statement_timestamp() - b.refilled_at) * :refillRate))),
+                tokens = LEAST(:capacity,
+                        b.tokens + :unused + EXTRACT(EPOCH FROM statement_timestamp() - b.refilled_at) * :refillRate)
+                    - LEAST(:lease, FLOOR(LEAST(:capacity,
+                        b.tokens + :unused + EXTRACT(EPOCH FROM statement_timestamp() - b.refilled_at) * :refillRate))),
+                refilled_at = statement_timestamp()
+            RETURNING last_grant
+            """;
+
+    private static final String RETURN_SQL = """
+            UPDATE rate_limit_buckets SET tokens = LEAST(:capacity, tokens + :unused)
+            WHERE bucket_key = :key
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM rate_limit_buckets
+            WHERE refilled_at < statement_timestamp() - make_interval(secs => :idleSeconds)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final RateLimiter fallback;
+    private final LongSupplier nanoClock;
+    private final int leaseSize;
+    private final long leaseTtlNanos;
+    private final long storeRetryNanos;
+    private final long idleTimeoutSeconds;
+    private final long sweepIntervalSeconds;
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Counter leaseRequests;
+    private final Counter fallbacks;
+    private final Counter rejections;
+    private ScheduledExecutorService sweeper;
+    // While the store is failing, decisions stay local until this instant instead of each request
+    // waiting out a connection timeout
+    private volatile long storeRetryAt;
+    private volatile boolean storeDown;
+
+    @Autowired
+    public PostgresRateLimiter(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TokenBucketRateLimiter fallback,
+            RateLimitProperties properties,
+            MeterRegistry meterRegistry) {
+        this(jdbcTemplate, fallback, System::nanoTime, properties, meterRegistry);
+    }
+
+    PostgresRateLimiter(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            RateLimiter fallback,
+            LongSupplier nanoClock,
+            RateLimitProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fallback = fallback;
+        this.nanoClock = nanoClock;
+        this.leaseSize = Math.max(1, properties.getLeaseSize());
+        this.leaseTtlNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLeaseTtlMillis());
+        this.storeRetryNanos = TimeUnit.MILLISECONDS.toNanos(properties.getStoreRetryMillis());
+        this.idleTimeoutSeconds = properties.getBucketIdleTimeoutSeconds();
+        this.sweepIntervalSeconds = properties.getSweepIntervalSeconds();
+        this.leaseRequests = Counter.builder("rate_limiter.shared.lease_requests")
+                .description("Round trips to the shared rate limit store")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("rate_limiter.shared.fallbacks")
+                .description("Decisions taken by the in-memory limiter because the shared store failed")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("rate_limiter.rejections")
+                .description("Requests denied because their bucket was empty")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startSweeper() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-lease-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean tryConsume(String key, int capacity, int refillRate) {
+        long now = nanoClock.getAsLong();
+        Lease lease = leases.get(key);
+        if (lease == null) {
+            lease = leases.computeIfAbsent(key, k -> new Lease(now));
+        }
+        if (lease.tryTake(now)) {
+            return true;
+        }
+        if (lease.isDenied(now)) {
+            rejections.increment();
+            return false;
+        }
+
+        if (storeDown && now - storeRetryAt < 0) {
+            fallbacks.increment();
+            return fallback.tryConsume(key, capacity, refillRate);
+        }
+
+        synchronized (lease) {
+            // Another thread may have renewed the lease while this one waited
+            if (lease.tryTake(now)) {
+                return true;
+            }
+            // Tokens the expired lease never handed out go back to the shared bucket, otherwise every renewal
+            // would cost the client a whole lease and several instances together would undercut the refill rate
+            int unused = lease.reclaim(now);
+            int granted;
+            try {
+                granted = requestLease(key, capacity, refillRate, unused);
+            } catch (DataAccessException e) {
+                markStoreDown(now, e);
+                fallbacks.increment();
+                return fallback.tryConsume(key, capacity, refillRate);
+            }
+            if (storeDown) {
+                storeDown = false;
+                log.info("Shared rate limit store is reachable again");
+            }
+            if (granted <= 0) {
+                // Nothing left until the next token accrues, so don't ask the store again before then
+                long retryAfter = refillRate > 0 ? TimeUnit.SECONDS.toNanos(1) / refillRate : leaseTtlNanos;
+                lease.deny(now + Math.min(retryAfter, leaseTtlNanos));
+                rejections.increment();
+                return false;
+            }
+            lease.renew(granted - 1, now + leaseTtlNanos, capacity);
+            return true;
+        }
+    }
+
+    private void markStoreDown(long now, DataAccessException e) {
+        boolean wasDown = storeDown;
+        storeRetryAt = now + storeRetryNanos;
+        storeDown = true;
+        // Logged once per outage rather than once per request
+        if (!wasDown) {
+            log.warn("Shared rate limit store unavailable, using in-memory limits for {} ms at a time: {}",
+                    TimeUnit.NANOSECONDS.toMillis(storeRetryNanos), e.getMessage());
+        }
+    }
+
+    private int requestLease(String key, int capacity, int refillRate, int unused) {
+        leaseRequests.increment();
+        Integer granted = jdbcTemplate.queryForObject(LEASE_SQL, Map.of(
+                "key", key,
+                "capacity", capacity,
+                "refillRate", Math.max(0, refillRate),
+                "lease", Math.min(leaseSize, Math.max(1, capacity)),
+                "unused", unused
+        ), Integer.class);
+        return granted != null ? granted : 0;
+    }
+
+    void sweep() {
+        long now = nanoClock.getAsLong();
+        for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+            Lease lease = entry.getValue();
+            if (lease.isIdle(now) && leases.remove(entry.getKey(), lease)) {
+                int unused;
+                synchronized (lease) {
+                    unused = lease.reclaim(now);
+                }
+                returnUnused(entry.getKey(), lease.capacity, unused);
+            }
+        }
+        try {
+            int purged = jdbcTemplate.update(PURGE_SQL, Map.of("idleSeconds", idleTimeoutSeconds));
+            if (purged > 0) {
+                log.debug("Purged {} idle shared rate limit buckets", purged);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to purge idle shared rate limit buckets: {}", e.getMessage());
+        }
+    }
+
+    private void returnUnused(String key, int capacity, int unused) {
+        if (unused <= 0 || storeDown) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(RETURN_SQL, Map.of("key", key, "capacity", capacity, "unused", unused));
+        } catch (DataAccessException e) {
+            log.debug("Failed to return {} unused tokens for {}: {}", unused, key, e.getMessage());
+        }
+    }
+
+    int localLeaseCount() {
+        return leases.size();
+    }
+
+    private static final class Lease {
+        private final AtomicInteger remaining = new AtomicInteger();
+        private volatile long expiresAt;
+        private volatile long deniedUntil;
+        private volatile int capacity;
+
+        Lease(long now) {
+            this.expiresAt = now;
+            this.deniedUntil = now;
+        }
+
+        boolean tryTake(long now) {
+            if (now - expiresAt >= 0) {
+                return false;
+            }
+            while (true) {
+                int current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isDenied(long now) {
+            return now - deniedUntil < 0;
+        }
+
+        boolean isIdle(long now) {
+            return now - expiresAt >= 0 && !isDenied(now);
+        }
+
+        // Only an expired lease gives its tokens up; nothing takes from it any more once tryTake sees it expired
+        int reclaim(long now) {
+            return now - expiresAt >= 0 ? remaining.getAndSet(0) : 0;
+        }
+
+        void renew(int tokens, long expiresAt, int capacity) {
+            remaining.set(tokens);
+            this.expiresAt = expiresAt;
+            this.capacity = capacity;
+        }
+
+        void deny(long until) {
+            remaining.set(0);
+            this.deniedUntil = until;
+        }
+    }
+}
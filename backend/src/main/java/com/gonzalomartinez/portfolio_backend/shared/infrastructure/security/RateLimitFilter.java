@@ -1,6 +1,9 @@
 package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
 
 import com.gonzalomartinez.portfolio_backend.shared.infrastructure.config.RateLimitProperties;
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics.RateLimitEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -12,6 +15,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
@@ -19,11 +25,25 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
 
     private final RateLimitProperties properties;
-    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimiter rateLimiter;
+    private final Map<String, Counter> accepted = new HashMap<>();
+    private final Map<String, Counter> rejected = new HashMap<>();
 
-    public RateLimitFilter(TokenBucketRateLimiter rateLimiter, RateLimitProperties properties) {
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
         this.rateLimiter = rateLimiter;
         this.properties = properties;
+        for (String tier : List.of("public", "admin", "auth")) {
+            accepted.put(tier, requestCounter(meterRegistry, tier, "accepted"));
+            rejected.put(tier, requestCounter(meterRegistry, tier, "rejected"));
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String tier, String outcome) {
+        return Counter.builder("rate_limiter.requests")
+                .description("Rate-limited requests by tier and whether a token was available")
+                .tag("tier", tier)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     @Override
@@ -61,8 +81,21 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
         String clientIp = getClientIp(request);
         String bucketKey = isAdminPath ? "admin:" + clientIp : "public:" + clientIp;
+        String tier = isAdminPath ? "admin" : isAuthPath ? "auth" : "public";
+
+        RateLimitEvent event = new RateLimitEvent();
+        event.begin();
+        boolean consumed = rateLimiter.tryConsume(bucketKey, capacity, refillRate);
+        event.end();
+        if (event.shouldCommit()) {
+            event.tier = tier;
+            event.path = path;
+            event.accepted = consumed;
+            event.commit();
+        }
 
-        if (!rateLimiter.tryConsume(bucketKey, capacity, refillRate)) {
+        if (!consumed) {
+            rejected.get(tier).increment();
             log.warn("Rate limit exceeded for IP: {} on path: {}", clientIp, path);
             response.setStatus(429);
             response.setContentType("application/json");
@@ -72,6 +105,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
+        accepted.get(tier).increment();
         filterChain.doFilter(request, response);
     }
 
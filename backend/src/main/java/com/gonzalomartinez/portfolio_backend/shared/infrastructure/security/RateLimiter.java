@@ -0,0 +1,5 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+public interface RateLimiter {
+    boolean tryConsume(String key, int capacity, int refillRate);
+}
@@ -3,6 +3,9 @@ package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -11,6 +14,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.Http403ForbiddenEntryPoint;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import jakarta.servlet.http.HttpServletResponse;
@@ -36,6 +40,10 @@ public class SecurityConfig {
     private String allowedHeaders;
     @Value("${cors.allow-credentials:true}")
     private boolean allowCredentials;
+    @Value("${server.port:8080}")
+    private int serverPort;
+    @Value("${management.server.port:}")
+    private Integer managementPort;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimitFilter rateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
@@ -53,7 +61,10 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/public/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        // Recordings and cache statistics expose internals (a .jfr dump carries JVM settings and timings)
+                        .requestMatchers("/actuator/jfr/**", "/actuator/jpacache/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").access(metricsAccess())
                         .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
@@ -67,6 +78,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Metrics are only open on a management port of their own, which deploys keep off the public route
+    private AuthorizationManager<RequestAuthorizationContext> metricsAccess() {
+        if (managementPort != null && managementPort != serverPort) {
+            return (authentication, context) -> new AuthorizationDecision(true);
+        }
+        return AuthorityAuthorizationManager.hasRole("ADMIN");
+    }
+
     @Bean
     public AuthenticationEntryPoint authEntryPoint() {
         return (request, response, authException) -> {
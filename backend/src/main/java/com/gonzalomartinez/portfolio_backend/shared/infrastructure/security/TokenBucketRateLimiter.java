@@ -1,62 +1,187 @@
 package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
 
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 @Component
-public class TokenBucketRateLimiter {
+public class TokenBucketRateLimiter implements RateLimiter {
 
     private static final Logger log = LoggerFactory.getLogger(TokenBucketRateLimiter.class);
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int CAPACITY_TRIM_DIVISOR = 16;
 
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final int maxBuckets;
+    private final long idleTimeoutSeconds;
+    private final long sweepIntervalSeconds;
+    private final Counter idleEvictions;
+    private final Counter capacityEvictions;
+    private final Counter rejections;
+    private final AtomicBoolean trimming = new AtomicBoolean();
+    private ScheduledExecutorService sweeper;
 
+    @Autowired
+    public TokenBucketRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(System::nanoTime, properties.getMaxBuckets(), properties.getBucketIdleTimeoutSeconds(),
+                properties.getSweepIntervalSeconds(), meterRegistry);
+    }
+
+    TokenBucketRateLimiter(
+            LongSupplier nanoClock,
+            int maxBuckets,
+            long idleTimeoutSeconds,
+            long sweepIntervalSeconds,
+            MeterRegistry meterRegistry) {
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+        this.maxBuckets = maxBuckets;
+        this.idleTimeoutSeconds = idleTimeoutSeconds;
+        this.sweepIntervalSeconds = sweepIntervalSeconds;
+
+        Gauge.builder("rate_limiter.buckets", buckets, Map::size)
+                .description("Rate limit buckets currently held in memory")
+                .register(meterRegistry);
+        this.idleEvictions = Counter.builder("rate_limiter.evictions")
+                .tag("reason", "idle")
+                .register(meterRegistry);
+        this.capacityEvictions = Counter.builder("rate_limiter.evictions")
+                .tag("reason", "capacity")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("rate_limiter.rejections")
+                .description("Requests denied because their bucket was empty")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startSweeper() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Override
     public boolean tryConsume(String key, int capacity, int refillRate) {
-        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, refillRate));
-        return bucket.tryConsume();
+        long now = nanoClock.getAsLong() - origin;
+        // get() first: computeIfAbsent's capturing lambda would allocate on every call
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                trimToCapacity();
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, refillRate, now));
+        }
+        if (bucket.tryConsume(now)) {
+            return true;
+        }
+        rejections.increment();
+        return false;
     }
 
     public void evictStaleEntries(long maxAgeSeconds) {
-        Instant cutoff = Instant.now().minusSeconds(maxAgeSeconds);
-        buckets.entrySet().removeIf(entry -> entry.getValue().lastAccess.isBefore(cutoff));
+        long cutoff = nanoClock.getAsLong() - origin - TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+        for (Iterator<Bucket> it = buckets.values().iterator(); it.hasNext(); ) {
+            if (it.next().lastAccess < cutoff) {
+                it.remove();
+                idleEvictions.increment();
+            }
+        }
     }
 
-    private static class Bucket {
-        private final int capacity;
-        private final int refillRate;
-        private double tokens;
-        private Instant lastRefill;
-        private Instant lastAccess;
-
-        Bucket(int capacity, int refillRate) {
-            this.capacity = capacity;
-            this.refillRate = refillRate;
-            this.tokens = capacity;
-            this.lastRefill = Instant.now();
-            this.lastAccess = Instant.now();
-        }
-
-        synchronized boolean tryConsume() {
-            refill();
-            lastAccess = Instant.now();
-            if (tokens >= 1.0) {
-                tokens -= 1.0;
-                return true;
+    int size() {
+        return buckets.size();
+    }
+
+    private void sweep() {
+        try {
+            evictStaleEntries(idleTimeoutSeconds);
+        } catch (RuntimeException e) {
+            log.warn("Rate limit bucket sweep failed", e);
+        }
+    }
+
+    // Drops the least recently used sixteenth in one pass, so a full store pays one scan per maxBuckets / 16 new keys
+    private void trimToCapacity() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long[] accessTimes = buckets.values().stream().mapToLong(bucket -> bucket.lastAccess).toArray();
+            if (accessTimes.length < maxBuckets) {
+                return;
+            }
+            Arrays.sort(accessTimes);
+            int toEvict = Math.max(1, accessTimes.length / CAPACITY_TRIM_DIVISOR);
+            long cutoff = accessTimes[toEvict - 1];
+            for (Iterator<Bucket> it = buckets.values().iterator(); it.hasNext() && toEvict > 0; ) {
+                if (it.next().lastAccess <= cutoff) {
+                    it.remove();
+                    capacityEvictions.increment();
+                    toEvict--;
+                }
             }
-            return false;
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private static class Bucket {
+        private final long nanosPerToken;
+        private final long burstNanos;
+        // The bucket holds (now - base) / nanosPerToken tokens, capped at capacity
+        private final AtomicLong base;
+        private volatile long lastAccess;
+
+        Bucket(int capacity, int refillRate, long now) {
+            this.nanosPerToken = refillRate > 0
+                    ? Math.max(1, NANOS_PER_SECOND / refillRate)
+                    : Long.MAX_VALUE / 2 / Math.max(1, capacity);
+            this.burstNanos = Math.max(0, capacity) * nanosPerToken;
+            this.base = new AtomicLong(now - burstNanos);
+            this.lastAccess = now;
         }
 
-        private void refill() {
-            Instant now = Instant.now();
-            long secondsElapsed = now.getEpochSecond() - lastRefill.getEpochSecond();
-            if (secondsElapsed > 0) {
-                double newTokens = tokens + (secondsElapsed * refillRate);
-                tokens = Math.min(newTokens, capacity);
-                lastRefill = now;
+        boolean tryConsume(long now) {
+            lastAccess = now;
+            while (true) {
+                long current = base.get();
+                long refilled = Math.max(current, now - burstNanos);
+                if (now - refilled < nanosPerToken) {
+                    return false;
+                }
+                if (base.compareAndSet(current, refilled + nanosPerToken)) {
+                    return true;
+                }
             }
         }
     }
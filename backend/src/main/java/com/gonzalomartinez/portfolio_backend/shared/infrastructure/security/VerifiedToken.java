@@ -0,0 +1,5 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+import java.time.Instant;
+
+public record VerifiedToken(String subject, Instant expiresAt) {}
@@ -0,0 +1,96 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, VerifiedToken> verified = new ConcurrentHashMap<>();
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Clock clock;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.max-entries:1024}") int maxEntries) {
+        this(maxEntries, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    // Only a digest of the token is kept, never the bearer credential itself
+    public String keyFor(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public VerifiedToken get(String key) {
+        VerifiedToken token = verified.get(key);
+        if (token == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(token.expiresAt())) {
+            verified.remove(key, token);
+            return null;
+        }
+        return token;
+    }
+
+    public void put(String key, VerifiedToken token) {
+        if (token.expiresAt() == null || revoked.containsKey(key)) {
+            return;
+        }
+        if (verified.size() >= maxEntries) {
+            evictExpired();
+            if (verified.size() >= maxEntries) {
+                return;
+            }
+        }
+        verified.put(key, token);
+    }
+
+    public boolean isRevoked(String key) {
+        Instant until = revoked.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (!clock.instant().isBefore(until)) {
+            // Past its expiry the token is rejected by signature verification anyway
+            revoked.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    public void revoke(String key, Instant expiresAt) {
+        verified.remove(key);
+        revoked.put(key, expiresAt);
+    }
+
+    public void evictExpired() {
+        Instant now = clock.instant();
+        verified.values().removeIf(token -> !now.isBefore(token.expiresAt()));
+        revoked.values().removeIf(until -> !now.isBefore(until));
+    }
+
+    int size() {
+        return verified.size();
+    }
+}
@@ -0,0 +1,12 @@
+package com.gonzalomartinez.portfolio_backend.skill.application;
+
+import java.util.UUID;
+
+public record LocalizedSkillDto(
+    UUID id,
+    String name,
+    Integer level,
+    String category,
+    String iconUrl,
+    Integer order
+) {}
@@ -1,12 +1,21 @@
 package com.gonzalomartinez.portfolio_backend.skill.application;
 
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
+
 import java.util.List;
 import java.util.UUID;
 
 public interface ManageSkillUseCase {
     List<SkillDto> getAllSkills();
+    List<SkillDto> getPublishedSkills();
+    List<LocalizedSkillDto> getPublishedSkills(ContentLanguage language);
     SkillDto getSkillById(UUID id);
     SkillDto createSkill(SkillDto dto);
     SkillDto updateSkill(UUID id, SkillDto dto);
     void deleteSkill(UUID id);
+    BatchResult<SkillDto> applySkillBatch(BatchRequest<SkillDto> batch);
+    void reorderSkills(ReorderRequest request);
 }
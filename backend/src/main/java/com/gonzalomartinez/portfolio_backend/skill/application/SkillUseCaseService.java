@@ -1,15 +1,25 @@
 package com.gonzalomartinez.portfolio_backend.skill.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.skill.domain.Skill;
 import com.gonzalomartinez.portfolio_backend.skill.domain.SkillRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.shared.application.SanitizerPort;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -22,10 +32,18 @@ public class SkillUseCaseService implements ManageSkillUseCase {
 
     private final SkillRepositoryPort skillRepository;
     private final SanitizerPort inputSanitizer;
-
-    public SkillUseCaseService(SkillRepositoryPort skillRepository, SanitizerPort inputSanitizer) {
+    private final GetPortfolioSnapshotUseCase portfolioSnapshot;
+    private final PortfolioChangeNotifierPort changeNotifier;
+
+    public SkillUseCaseService(
+            SkillRepositoryPort skillRepository,
+            SanitizerPort inputSanitizer,
+            GetPortfolioSnapshotUseCase portfolioSnapshot,
+            PortfolioChangeNotifierPort changeNotifier) {
         this.skillRepository = skillRepository;
         this.inputSanitizer = inputSanitizer;
+        this.portfolioSnapshot = portfolioSnapshot;
+        this.changeNotifier = changeNotifier;
     }
 
     @Override
@@ -36,6 +54,24 @@ public class SkillUseCaseService implements ManageSkillUseCase {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SkillDto> getPublishedSkills() {
+        return portfolioSnapshot.getSnapshot().skills()
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LocalizedSkillDto> getPublishedSkills(ContentLanguage language) {
+        return portfolioSnapshot.getSnapshot().skills()
+                .stream()
+                .map(skill -> convertToLocalizedDto(skill, language))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public SkillDto getSkillById(UUID id) {
         Skill skill = skillRepository.findById(id)
@@ -53,6 +89,7 @@ public class SkillUseCaseService implements ManageSkillUseCase {
         }
 
         Skill savedSkill = skillRepository.save(skill);
+        changeNotifier.sectionChanged(PortfolioSection.SKILLS);
         log.info("Created skill: {} (ID: {})", savedSkill.nameEn(), savedSkill.id());
 
         return convertToDto(savedSkill);
@@ -61,13 +98,9 @@ public class SkillUseCaseService implements ManageSkillUseCase {
     @Override
     @Transactional
     public SkillDto updateSkill(UUID id, SkillDto dto) {
-        if (!skillRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Skill", "id", id);
-        }
-
-        Skill updatedSkill = convertToEntity(dto, id);
-
-        Skill savedSkill = skillRepository.save(updatedSkill);
+        Skill savedSkill = skillRepository.update(convertToEntity(dto, id))
+                .orElseThrow(() -> new ResourceNotFoundException("Skill", "id", id));
+        changeNotifier.sectionChanged(PortfolioSection.SKILLS);
         log.info("Updated skill: {} (ID: {})", savedSkill.nameEn(), savedSkill.id());
 
         return convertToDto(savedSkill);
@@ -76,14 +109,69 @@ public class SkillUseCaseService implements ManageSkillUseCase {
     @Override
     @Transactional
     public void deleteSkill(UUID id) {
-        if (!skillRepository.existsById(id)) {
+        if (!skillRepository.deleteById(id)) {
             throw new ResourceNotFoundException("Skill", "id", id);
         }
-
-        skillRepository.deleteById(id);
+        changeNotifier.sectionChanged(PortfolioSection.SKILLS);
         log.info("Deleted skill with ID: {}", id);
     }
 
+    @Override
+    @Transactional
+    public BatchResult<SkillDto> applySkillBatch(BatchRequest<SkillDto> batch) {
+        batch.requireDistinctIds(SkillDto::id);
+
+        List<UUID> deleted = skillRepository.deleteAllById(batch.delete());
+        if (deleted.size() < batch.delete().size()) {
+            throw new ResourceNotFoundException("Skill", "id", batch.missingDeletes(deleted));
+        }
+
+        List<Skill> updated = skillRepository.updateAll(batch.update().stream()
+                .map(dto -> convertToEntity(dto, dto.id()))
+                .toList());
+        if (updated.size() < batch.update().size()) {
+            throw new ResourceNotFoundException("Skill", "id",
+                    batch.firstMissingUpdate(SkillDto::id, updated.stream().map(Skill::id).toList()));
+        }
+
+        List<Skill> toCreate = new ArrayList<>();
+        Iterator<Integer> nextOrders = skillRepository.nextOrders(
+                (int) batch.create().stream().filter(dto -> dto.order() == null).count()).iterator();
+        for (SkillDto dto : batch.create()) {
+            Skill skill = convertToEntity(dto, null);
+            if (skill.order() == null) {
+                skill = skill.withOrder(nextOrders.next());
+            }
+            toCreate.add(skill);
+        }
+        List<Skill> created = skillRepository.saveAll(toCreate);
+
+        if (!batch.isEmpty()) {
+            changeNotifier.sectionChanged(PortfolioSection.SKILLS);
+        }
+        log.info("Applied skill batch: {} created, {} updated, {} deleted", created.size(), updated.size(), deleted.size());
+
+        return new BatchResult<>(
+                created.stream().map(this::convertToDto).collect(Collectors.toList()),
+                updated.stream().map(this::convertToDto).collect(Collectors.toList()),
+                deleted.size());
+    }
+
+    @Override
+    @Transactional
+    public void reorderSkills(ReorderRequest request) {
+        request.requireDistinctIds();
+        if (skillRepository.count() != request.ids().size()) {
+            throw new IllegalArgumentException("Reorder must list every one of the skills");
+        }
+        if (skillRepository.reorder(request.ids()) < request.ids().size()) {
+            throw new ResourceNotFoundException("Skill", "id",
+                    request.missingIds(skillRepository.findExistingIds(request.ids())));
+        }
+        changeNotifier.sectionChanged(PortfolioSection.SKILLS);
+        log.info("Reordered {} skills", request.ids().size());
+    }
+
     private SkillDto convertToDto(Skill skill) {
         return new SkillDto(
                 skill.id(),
@@ -96,6 +184,17 @@ public class SkillUseCaseService implements ManageSkillUseCase {
         );
     }
 
+    private LocalizedSkillDto convertToLocalizedDto(Skill skill, ContentLanguage language) {
+        return new LocalizedSkillDto(
+                skill.id(),
+                language.select(skill.nameEn(), skill.nameEs()),
+                skill.level(),
+                skill.category(),
+                skill.iconUrl(),
+                skill.order()
+        );
+    }
+
     private Skill convertToEntity(SkillDto dto, UUID id) {
         return new Skill(
                 id,
@@ -109,7 +208,7 @@ public class SkillUseCaseService implements ManageSkillUseCase {
     }
 
     private Integer getNextOrder() {
-        Integer maxOrder = skillRepository.findMaxOrder();
-        return (maxOrder != null ? maxOrder : 0) + 1;
+        // Drawn from a sequence so concurrent creates never share a position
+        return skillRepository.nextOrders(1).getFirst();
     }
 }
@@ -1,5 +1,6 @@
 package com.gonzalomartinez.portfolio_backend.skill.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,7 +10,14 @@ public interface SkillRepositoryPort {
     List<Skill> findAll();
     Optional<Skill> findById(UUID id);
     Skill save(Skill skill);
-    void deleteById(UUID id);
+    Optional<Skill> update(Skill skill);
+    boolean deleteById(UUID id);
+    List<Skill> saveAll(List<Skill> skills);
+    List<Skill> updateAll(List<Skill> skills);
+    List<UUID> deleteAllById(Collection<UUID> ids);
     boolean existsById(UUID id);
-    Integer findMaxOrder();
+    long count();
+    List<Integer> nextOrders(int count);
+    int reorder(List<UUID> orderedIds);
+    List<UUID> findExistingIds(Collection<UUID> ids);
 }
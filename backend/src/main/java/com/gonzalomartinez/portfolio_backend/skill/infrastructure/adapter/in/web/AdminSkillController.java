@@ -2,6 +2,9 @@ package com.gonzalomartinez.portfolio_backend.skill.infrastructure.adapter.in.we
 
 import com.gonzalomartinez.portfolio_backend.skill.application.SkillDto;
 import com.gonzalomartinez.portfolio_backend.skill.application.ManageSkillUseCase;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -50,4 +53,15 @@ public class AdminSkillController {
         skillUseCase.deleteSkill(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResult<SkillDto>> applySkillBatch(@Valid @RequestBody BatchRequest<SkillDto> batch) {
+        return ResponseEntity.ok(skillUseCase.applySkillBatch(batch));
+    }
+
+    @PutMapping("/order")
+    public ResponseEntity<Void> reorderSkills(@Valid @RequestBody ReorderRequest request) {
+        skillUseCase.reorderSkills(request);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,26 +1,31 @@
 package com.gonzalomartinez.portfolio_backend.skill.infrastructure.adapter.in.web;
 
-import com.gonzalomartinez.portfolio_backend.skill.application.SkillDto;
 import com.gonzalomartinez.portfolio_backend.skill.application.ManageSkillUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.web.PublishedResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/public/skills")
 public class PublicSkillController {
 
     private final ManageSkillUseCase skillUseCase;
+    private final PublishedResponseCache responseCache;
 
-    public PublicSkillController(ManageSkillUseCase skillUseCase) {
+    public PublicSkillController(ManageSkillUseCase skillUseCase, PublishedResponseCache responseCache) {
         this.skillUseCase = skillUseCase;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public ResponseEntity<List<SkillDto>> getAllSkills() {
-        return ResponseEntity.ok(skillUseCase.getAllSkills());
+    public ResponseEntity<byte[]> getAllSkills(
+            @RequestParam(required = false) String lang,
+            HttpServletRequest request) {
+        return responseCache.respond("skills", lang, request,
+                skillUseCase::getPublishedSkills, skillUseCase::getPublishedSkills);
     }
 }
@@ -1,9 +1,12 @@
 package com.gonzalomartinez.portfolio_backend.skill.infrastructure.adapter.out.persistence;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skills")
 @Table(name = "skills")
 public class SkillEntity {
 
@@ -4,9 +4,13 @@ import com.gonzalomartinez.portfolio_backend.skill.domain.Skill;
 import com.gonzalomartinez.portfolio_backend.skill.domain.SkillRepositoryPort;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -47,8 +51,54 @@ public class SkillRepositoryAdapter implements SkillRepositoryPort {
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaSkillRepository.deleteById(id);
+    public Optional<Skill> update(Skill skill) {
+        // Mutating the managed entity lets dirty checking issue a single UPDATE instead of a merge
+        return jpaSkillRepository.findById(skill.id()).map(entity -> {
+            applyTo(entity, skill);
+            return toDomain(entity);
+        });
+    }
+
+    @Override
+    public boolean deleteById(UUID id) {
+        return jpaSkillRepository.removeById(id) > 0;
+    }
+
+    @Override
+    public List<Skill> saveAll(List<Skill> skills) {
+        List<SkillEntity> entities = skills.stream().map(this::toEntity).collect(Collectors.toList());
+        return jpaSkillRepository.saveAll(entities)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Skill> updateAll(List<Skill> skills) {
+        Map<UUID, SkillEntity> entities = jpaSkillRepository.findAllById(skills.stream().map(Skill::id).toList())
+                .stream()
+                .collect(Collectors.toMap(SkillEntity::getId, Function.identity()));
+        List<Skill> updated = new ArrayList<>();
+        for (Skill skill : skills) {
+            SkillEntity entity = entities.get(skill.id());
+            if (entity != null) {
+                applyTo(entity, skill);
+                updated.add(toDomain(entity));
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public List<UUID> deleteAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> existing = jpaSkillRepository.findIdsByIdIn(ids);
+        if (!existing.isEmpty()) {
+            jpaSkillRepository.removeAllByIdIn(existing);
+        }
+        return existing;
     }
 
     @Override
@@ -57,8 +107,35 @@ public class SkillRepositoryAdapter implements SkillRepositoryPort {
     }
 
     @Override
-    public Integer findMaxOrder() {
-        return jpaSkillRepository.findMaxOrder();
+    public long count() {
+        return jpaSkillRepository.count();
+    }
+
+    @Override
+    public List<Integer> nextOrders(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        return jpaSkillRepository.nextDisplayOrders(count).stream().map(Long::intValue).sorted().toList();
+    }
+
+    @Override
+    public int reorder(List<UUID> orderedIds) {
+        return orderedIds.isEmpty() ? 0 : jpaSkillRepository.reorder(orderedIds.toArray(UUID[]::new));
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : jpaSkillRepository.findIdsByIdIn(ids);
+    }
+
+    private void applyTo(SkillEntity entity, Skill skill) {
+        entity.setNameEn(skill.nameEn());
+        entity.setNameEs(skill.nameEs());
+        entity.setLevel(skill.level());
+        entity.setCategory(skill.category());
+        entity.setIconUrl(skill.iconUrl());
+        entity.setOrder(skill.order());
     }
 
     private Skill toDomain(SkillEntity entity) {
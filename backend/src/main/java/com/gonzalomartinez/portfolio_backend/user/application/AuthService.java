@@ -1,17 +1,18 @@
 package com.gonzalomartinez.portfolio_backend.user.application;
 
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.InvalidCredentialsException;
+import com.gonzalomartinez.portfolio_backend.user.domain.EmailOutboxRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetEmail;
 import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetToken;
 import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetTokenRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.user.domain.User;
 import com.gonzalomartinez.portfolio_backend.user.domain.UserRepositoryPort;
-
-import com.gonzalomartinez.portfolio_backend.user.application.EmailSenderPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -25,14 +26,11 @@ public class AuthService implements AuthUseCase {
     private final PasswordEncoder passwordEncoder;
     private final TokenGeneratorPort jwtService;
     private final PasswordResetTokenRepositoryPort resetTokenRepository;
-    private final EmailSenderPort emailService; 
+    private final EmailOutboxRepositoryPort emailOutbox;
 
     @Value("${app.admin.email}")
     private String adminEmail;
 
-    @Value("${app.password-reset.frontend-url}")
-    private String frontendUrl;
-
     @Value("${app.password-reset.token-expiration-minutes}")
     private int tokenExpirationMinutes;
 
@@ -41,12 +39,12 @@ public class AuthService implements AuthUseCase {
             PasswordEncoder passwordEncoder,
             TokenGeneratorPort jwtService,
             PasswordResetTokenRepositoryPort resetTokenRepository,
-            EmailSenderPort emailService) {
+            EmailOutboxRepositoryPort emailOutbox) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.resetTokenRepository = resetTokenRepository;
-        this.emailService = emailService;
+        this.emailOutbox = emailOutbox;
     }
 
     @Override
@@ -72,8 +70,7 @@ public class AuthService implements AuthUseCase {
     @Override
     public boolean validateToken(String token) {
         try {
-            String username = jwtService.extractUsername(token);
-            return jwtService.validateToken(token, username);
+            return jwtService.verifySubject(token) != null;
         } catch (Exception e) {
             log.error("Token validation error: {}", e.getMessage());
             return false;
@@ -81,23 +78,35 @@ public class AuthService implements AuthUseCase {
     }
 
     @Override
+    public void logout(String token) {
+        try {
+            jwtService.revokeToken(token);
+        } catch (Exception e) {
+            log.debug("Ignoring logout with invalid token: {}", e.getMessage());
+        }
+    }
+
+    // The token and its email commit together; the outbox dispatcher delivers it off the request thread.
+    // The token created here is never revealed: the dispatcher issues the one that goes into the link
+    @Override
+    @Transactional
     public void forgotPassword(String username) {
         userRepository.findByUsername(username).ifPresentOrElse(
                 user -> {
                     String tokenStr = UUID.randomUUID().toString();
+                    LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(tokenExpirationMinutes);
                     PasswordResetToken resetToken = new PasswordResetToken(
                             null,
-                            tokenStr,
+                            PasswordResetToken.hash(tokenStr),
                             username,
-                            LocalDateTime.now().plusMinutes(tokenExpirationMinutes),
+                            expiresAt,
                             false
                     );
-                    resetTokenRepository.save(resetToken);
+                    PasswordResetToken savedToken = resetTokenRepository.save(resetToken);
 
-                    String resetLink = frontendUrl + "/admin/reset-password?token=" + tokenStr;
-                    emailService.sendPasswordResetEmail(adminEmail, resetLink);
+                    emailOutbox.enqueue(new PasswordResetEmail(null, adminEmail, savedToken.id(), expiresAt, 0));
 
-                    log.info("Password reset email sent for user: {}", username);
+                    log.info("Password reset email queued for user: {}", username);
                 },
                 () -> log.info("Password reset requested for non-existent user: {}", username)
         );
@@ -105,7 +114,7 @@ public class AuthService implements AuthUseCase {
 
     @Override
     public void resetPassword(ResetPasswordRequest request) {
-        PasswordResetToken resetToken = resetTokenRepository.findByToken(request.token())
+        PasswordResetToken resetToken = resetTokenRepository.findByTokenHash(PasswordResetToken.hash(request.token()))
                 .orElseThrow(() -> new InvalidCredentialsException("Invalid or expired reset token"));
 
         if (resetToken.used()) {
@@ -0,0 +1,5 @@
+package com.gonzalomartinez.portfolio_backend.user.application;
+
+public interface DispatchEmailOutboxUseCase {
+    int dispatchDue();
+}
@@ -0,0 +1,118 @@
+package com.gonzalomartinez.portfolio_backend.user.application;
+
+import com.gonzalomartinez.portfolio_backend.user.domain.EmailOutboxRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetEmail;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetToken;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetTokenRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+// Deliberately not transactional: each claim, delete and reschedule commits on its own, so no
+// database connection is held open while the provider answers
+@Service
+public class EmailOutboxService implements DispatchEmailOutboxUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxService.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepositoryPort outboxRepository;
+    private final PasswordResetTokenRepositoryPort resetTokenRepository;
+    private final EmailSenderPort emailSender;
+    private final String frontendUrl;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Semaphore sending;
+
+    public EmailOutboxService(
+            EmailOutboxRepositoryPort outboxRepository,
+            PasswordResetTokenRepositoryPort resetTokenRepository,
+            EmailSenderPort emailSender,
+            @Value("${app.password-reset.frontend-url}") String frontendUrl,
+            @Value("${app.email-outbox.batch-size:20}") int batchSize,
+            @Value("${app.email-outbox.concurrency:4}") int concurrency,
+            @Value("${app.email-outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.email-outbox.lease:2m}") Duration lease,
+            @Value("${app.email-outbox.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${app.email-outbox.max-backoff:1h}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.resetTokenRepository = resetTokenRepository;
+        this.emailSender = emailSender;
+        this.frontendUrl = frontendUrl;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.sending = new Semaphore(Math.max(1, concurrency));
+    }
+
+    @Override
+    public int dispatchDue() {
+        List<PasswordResetEmail> due = outboxRepository.claimDue(batchSize, maxAttempts, lease);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (PasswordResetEmail email : due) {
+                executor.execute(() -> deliver(email));
+            }
+        }
+        log.debug("Dispatched {} outbox emails", due.size());
+        return due.size();
+    }
+
+    private void deliver(PasswordResetEmail email) {
+        sending.acquireUninterruptibly();
+        try {
+            // The raw token only ever exists in the email being sent; a retry issues a new one, which
+            // invalidates the link of any earlier attempt that did get through
+            String rawToken = UUID.randomUUID().toString();
+            if (!resetTokenRepository.reissue(email.tokenId(), PasswordResetToken.hash(rawToken), LocalDateTime.now())) {
+                outboxRepository.delete(email.id());
+                log.info("Dropped outbox email {}: its reset token was used or has expired", email.id());
+                return;
+            }
+            emailSender.sendPasswordResetEmail(email.recipient(), frontendUrl + "/admin/reset-password?token=" + rawToken);
+            outboxRepository.delete(email.id());
+        } catch (RuntimeException e) {
+            int attempts = email.attempts() + 1;
+            Duration delay = backoff(attempts);
+            // No point retrying into a dead link
+            if (attempts >= maxAttempts || !LocalDateTime.now().plus(delay).isBefore(email.expiresAt())) {
+                outboxRepository.delete(email.id());
+                log.error("Giving up on outbox email {} after {} attempts: {}", email.id(), attempts, e.getMessage());
+            } else {
+                outboxRepository.reschedule(email.id(), attempts, delay, truncate(e.getMessage()));
+                log.warn("Outbox email {} failed on attempt {}, retrying: {}", email.id(), attempts, e.getMessage());
+            }
+        } finally {
+            sending.release();
+        }
+    }
+
+    Duration backoff(int attempts) {
+        // Doubles from the initial delay; the shift is capped so it can't overflow before the max kicks in
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
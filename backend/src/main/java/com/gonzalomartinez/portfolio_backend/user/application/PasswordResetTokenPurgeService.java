@@ -0,0 +1,56 @@
+package com.gonzalomartinez.portfolio_backend.user.application;
+
+import com.gonzalomartinez.portfolio_backend.user.domain.EmailOutboxRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetTokenRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+
+@Service
+public class PasswordResetTokenPurgeService implements PurgePasswordResetTokensUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordResetTokenPurgeService.class);
+
+    private final PasswordResetTokenRepositoryPort resetTokenRepository;
+    private final EmailOutboxRepositoryPort emailOutbox;
+    private final int chunkSize;
+
+    public PasswordResetTokenPurgeService(
+            PasswordResetTokenRepositoryPort resetTokenRepository,
+            EmailOutboxRepositoryPort emailOutbox,
+            @Value("${app.password-reset.purge-chunk-size:500}") int chunkSize) {
+        this.resetTokenRepository = resetTokenRepository;
+        this.emailOutbox = emailOutbox;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public int purgeExpiredOrUsed() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = purgeInChunks(limit -> resetTokenRepository.deleteExpiredOrUsed(now, limit));
+        if (total > 0) {
+            log.info("Purged {} expired or used password reset tokens", total);
+        }
+        // Queued reset emails carry the raw token in their link; the dispatcher drops expired ones when it runs,
+        // this covers an instance where it is disabled or stuck
+        int emails = purgeInChunks(limit -> emailOutbox.deleteExpired(now, limit));
+        if (emails > 0) {
+            log.info("Purged {} undelivered reset emails whose token had expired", emails);
+        }
+        return total;
+    }
+
+    private int purgeInChunks(IntUnaryOperator deleteChunk) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = deleteChunk.applyAsInt(chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+}
@@ -2,6 +2,7 @@ package com.gonzalomartinez.portfolio_backend.user.application;
 
 public interface TokenGeneratorPort {
     String generateToken(String username);
-    String extractUsername(String token);
-    Boolean validateToken(String token, String username);
+    // Subject of a token whose signature, expiry and revocation all check out; throws otherwise
+    String verifySubject(String token);
+    void revokeToken(String token);
 }
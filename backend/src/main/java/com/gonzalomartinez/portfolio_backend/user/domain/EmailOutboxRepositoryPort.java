@@ -0,0 +1,14 @@
+package com.gonzalomartinez.portfolio_backend.user.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface EmailOutboxRepositoryPort {
+    void enqueue(PasswordResetEmail email);
+    List<PasswordResetEmail> claimDue(int limit, int maxAttempts, Duration lease);
+    void delete(UUID id);
+    void reschedule(UUID id, int attempts, Duration delay, String error);
+    int deleteExpired(LocalDateTime now, int limit);
+}
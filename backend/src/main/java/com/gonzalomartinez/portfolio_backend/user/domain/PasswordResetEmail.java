@@ -0,0 +1,12 @@
+package com.gonzalomartinez.portfolio_backend.user.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PasswordResetEmail(
+    UUID id,
+    String recipient,
+    UUID tokenId,
+    LocalDateTime expiresAt,
+    int attempts
+) {}
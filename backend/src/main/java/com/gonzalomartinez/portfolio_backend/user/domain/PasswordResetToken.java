@@ -1,20 +1,34 @@
 package com.gonzalomartinez.portfolio_backend.user.domain;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.UUID;
 
 public record PasswordResetToken(
     UUID id,
-    String token,
+    String tokenHash,
     String username,
     LocalDateTime expiresAt,
     boolean used
 ) {
+    // Only the digest is stored; the raw token lives in the emailed link and is hashed again on use
+    public static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     public boolean isExpired() {
         return expiresAt.isBefore(LocalDateTime.now());
     }
 
     public PasswordResetToken markAsUsed() {
-        return new PasswordResetToken(id, token, username, expiresAt, true);
+        return new PasswordResetToken(id, tokenHash, username, expiresAt, true);
     }
 }
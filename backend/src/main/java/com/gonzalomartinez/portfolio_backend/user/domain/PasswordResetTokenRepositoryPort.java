@@ -1,8 +1,12 @@
 package com.gonzalomartinez.portfolio_backend.user.domain;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface PasswordResetTokenRepositoryPort {
-    Optional<PasswordResetToken> findByToken(String token);
+    Optional<PasswordResetToken> findByTokenHash(String tokenHash);
     PasswordResetToken save(PasswordResetToken token);
+    boolean reissue(UUID id, String tokenHash, LocalDateTime now);
+    int deleteExpiredOrUsed(LocalDateTime now, int limit);
 }
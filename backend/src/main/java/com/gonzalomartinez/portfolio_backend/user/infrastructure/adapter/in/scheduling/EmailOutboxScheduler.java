@@ -0,0 +1,35 @@
+package com.gonzalomartinez.portfolio_backend.user.infrastructure.adapter.in.scheduling;
+
+import com.gonzalomartinez.portfolio_backend.user.application.DispatchEmailOutboxUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.email-outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxScheduler.class);
+
+    private final DispatchEmailOutboxUseCase dispatchUseCase;
+
+    public EmailOutboxScheduler(DispatchEmailOutboxUseCase dispatchUseCase) {
+        this.dispatchUseCase = dispatchUseCase;
+    }
+
+    // Fixed delay, so a slow batch is never overlapped by the next poll
+    @Scheduled(fixedDelayString = "${app.email-outbox.poll-interval:5s}", initialDelayString = "${app.email-outbox.poll-interval:5s}")
+    public void dispatch() {
+        try {
+            // Keep draining while batches come back, rather than waiting a poll interval per batch
+            int dispatched;
+            do {
+                dispatched = dispatchUseCase.dispatchDue();
+            } while (dispatched > 0);
+        } catch (Exception e) {
+            log.warn("Email outbox dispatch failed, will retry on next poll: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.gonzalomartinez.portfolio_backend.user.infrastructure.adapter.in.scheduling;
+
+import com.gonzalomartinez.portfolio_backend.user.application.PurgePasswordResetTokensUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PasswordResetTokenPurgeScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordResetTokenPurgeScheduler.class);
+
+    private final PurgePasswordResetTokensUseCase purgeUseCase;
+
+    public PasswordResetTokenPurgeScheduler(PurgePasswordResetTokensUseCase purgeUseCase) {
+        this.purgeUseCase = purgeUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${app.password-reset.purge-interval:1h}", initialDelayString = "${app.password-reset.purge-initial-delay:1m}")
+    public void purge() {
+        try {
+            purgeUseCase.purgeExpiredOrUsed();
+        } catch (Exception e) {
+            log.warn("Password reset token purge failed, will retry on next run: {}", e.getMessage());
+        }
+    }
+}
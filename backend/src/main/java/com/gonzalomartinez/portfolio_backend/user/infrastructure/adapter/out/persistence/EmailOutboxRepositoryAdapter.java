@@ -0,0 +1,114 @@
+package com.gonzalomartinez.portfolio_backend.user.infrastructure.adapter.out.persistence;
+
+import com.gonzalomartinez.portfolio_backend.user.domain.EmailOutboxRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetEmail;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class EmailOutboxRepositoryAdapter implements EmailOutboxRepositoryPort {
+
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO email_outbox (id, recipient, token_id, expires_at, attempts, next_attempt_at, created_at)
+            VALUES (:id, :recipient, :tokenId, :expiresAt, 0, statement_timestamp(), statement_timestamp())
+            """;
+
+    // Pushing next_attempt_at past the lease hides claimed rows from other dispatchers while they are sent,
+    // and hands them back if this instance dies mid-send; SKIP LOCKED keeps concurrent claims from blocking.
+    // Rows whose token has expired are deleted on the way, since their link no longer works
+    private static final String CLAIM_SQL = """
+            WITH expired AS (
+                DELETE FROM email_outbox WHERE expires_at <= statement_timestamp()
+            )
+            UPDATE email_outbox SET next_attempt_at = statement_timestamp() + make_interval(secs => :leaseSeconds)
+            WHERE id IN (
+                SELECT id FROM email_outbox
+                WHERE next_attempt_at <= statement_timestamp()
+                  AND expires_at > statement_timestamp()
+                  AND attempts < :maxAttempts
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, recipient, token_id, expires_at, attempts
+            """;
+
+    private static final String RESCHEDULE_SQL = """
+            UPDATE email_outbox SET
+                attempts = :attempts,
+                next_attempt_at = statement_timestamp() + make_interval(secs => :delaySeconds),
+                last_error = :error
+            WHERE id = :id
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM email_outbox WHERE id IN (
+                SELECT id FROM email_outbox WHERE expires_at <= :now LIMIT :limit
+            )
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public EmailOutboxRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void enqueue(PasswordResetEmail email) {
+        jdbcTemplate.update(ENQUEUE_SQL, Map.of(
+                "id", email.id() != null ? email.id() : UUID.randomUUID(),
+                "recipient", email.recipient(),
+                "tokenId", email.tokenId(),
+                "expiresAt", email.expiresAt().atZone(ZoneId.systemDefault()).toOffsetDateTime()
+        ));
+    }
+
+    @Override
+    public List<PasswordResetEmail> claimDue(int limit, int maxAttempts, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, Map.of(
+                "limit", limit,
+                "maxAttempts", maxAttempts,
+                "leaseSeconds", lease.toSeconds()
+        ), (resultSet, row) -> new PasswordResetEmail(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("recipient"),
+                resultSet.getObject("token_id", UUID.class),
+                resultSet.getObject("expires_at", OffsetDateTime.class)
+                        .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime(),
+                resultSet.getInt("attempts")
+        ));
+    }
+
+    @Override
+    public void delete(UUID id) {
+        jdbcTemplate.update("DELETE FROM email_outbox WHERE id = :id", Map.of("id", id));
+    }
+
+    @Override
+    public void reschedule(UUID id, int attempts, Duration delay, String error) {
+        // Map.of rejects the null error a message-less exception leaves behind
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", id);
+        params.put("attempts", attempts);
+        params.put("delaySeconds", delay.toSeconds());
+        params.put("error", error);
+        jdbcTemplate.update(RESCHEDULE_SQL, params);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Map.of(
+                "now", now.atZone(ZoneId.systemDefault()).toOffsetDateTime(),
+                "limit", limit
+        ));
+    }
+}
@@ -1,12 +1,39 @@
 package com.gonzalomartinez.portfolio_backend.user.infrastructure.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface JpaPasswordResetTokenRepository extends JpaRepository<PasswordResetTokenEntity, UUID> {
-    Optional<PasswordResetTokenEntity> findByToken(String token);
+    Optional<PasswordResetTokenEntity> findByTokenHash(String tokenHash);
+
+    // Swaps in the digest of a freshly issued token, unless the old one has been used or has expired
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE PasswordResetTokenEntity t SET t.tokenHash = :tokenHash
+            WHERE t.id = :id AND t.used = false AND t.expiresAt > :now
+            """)
+    int reissue(@Param("id") UUID id, @Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // One bounded chunk per call and per transaction, so a large backlog never holds a long lock
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM password_reset_tokens
+            WHERE id IN (
+                SELECT id FROM password_reset_tokens
+                WHERE used OR expires_at < :now
+                LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int deleteExpiredOrUsed(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
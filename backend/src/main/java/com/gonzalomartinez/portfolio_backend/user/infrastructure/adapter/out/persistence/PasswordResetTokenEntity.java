@@ -12,8 +12,9 @@ public class PasswordResetTokenEntity {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    // Hex SHA-256 of the raw token
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
 
     @Column(nullable = false)
     private String username;
@@ -26,9 +27,9 @@ public class PasswordResetTokenEntity {
 
     public PasswordResetTokenEntity() {}
 
-    public PasswordResetTokenEntity(UUID id, String token, String username, LocalDateTime expiresAt, boolean used) {
+    public PasswordResetTokenEntity(UUID id, String tokenHash, String username, LocalDateTime expiresAt, boolean used) {
         this.id = id;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.username = username;
         this.expiresAt = expiresAt;
         this.used = used;
@@ -36,8 +37,8 @@ public class PasswordResetTokenEntity {
 
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
-    public String getToken() { return token; }
-    public void setToken(String token) { this.token = token; }
+    public String getTokenHash() { return tokenHash; }
+    public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
     public String getUsername() { return username; }
     public void setUsername(String username) { this.username = username; }
     public LocalDateTime getExpiresAt() { return expiresAt; }
@@ -4,7 +4,9 @@ import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetToken;
 import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetTokenRepositoryPort;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class PasswordResetTokenRepositoryAdapter implements PasswordResetTokenRepositoryPort {
@@ -16,8 +18,8 @@ public class PasswordResetTokenRepositoryAdapter implements PasswordResetTokenRe
     }
 
     @Override
-    public Optional<PasswordResetToken> findByToken(String token) {
-        return jpaRepository.findByToken(token)
+    public Optional<PasswordResetToken> findByTokenHash(String tokenHash) {
+        return jpaRepository.findByTokenHash(tokenHash)
                 .map(this::toDomain);
     }
 
@@ -28,10 +30,20 @@ public class PasswordResetTokenRepositoryAdapter implements PasswordResetTokenRe
         return toDomain(savedEntity);
     }
 
+    @Override
+    public boolean reissue(UUID id, String tokenHash, LocalDateTime now) {
+        return jpaRepository.reissue(id, tokenHash, now) > 0;
+    }
+
+    @Override
+    public int deleteExpiredOrUsed(LocalDateTime now, int limit) {
+        return jpaRepository.deleteExpiredOrUsed(now, limit);
+    }
+
     private PasswordResetToken toDomain(PasswordResetTokenEntity entity) {
         return new PasswordResetToken(
                 entity.getId(),
-                entity.getToken(),
+                entity.getTokenHash(),
                 entity.getUsername(),
                 entity.getExpiresAt(),
                 entity.isUsed()
@@ -41,7 +53,7 @@ public class PasswordResetTokenRepositoryAdapter implements PasswordResetTokenRe
     private PasswordResetTokenEntity toEntity(PasswordResetToken domain) {
         return new PasswordResetTokenEntity(
                 domain.id(),
-                domain.token(),
+                domain.tokenHash(),
                 domain.username(),
                 domain.expiresAt(),
                 domain.used()
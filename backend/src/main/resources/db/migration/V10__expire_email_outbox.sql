@@ -0,0 +1,13 @@
+-- A reset email is worthless once its token has expired; the dispatcher skips and deletes rows past this.
+-- TIMESTAMPTZ so the comparison with statement_timestamp() does not depend on the session time zone
+ALTER TABLE email_outbox ADD COLUMN IF NOT EXISTS expires_at TIMESTAMPTZ;
+
+-- Existing rows were queued with the default 15 minute token lifetime
+UPDATE email_outbox SET expires_at = created_at + INTERVAL '15 minutes' WHERE expires_at IS NULL;
+
+ALTER TABLE email_outbox ALTER COLUMN expires_at SET NOT NULL;
+
+-- Rows that exhausted their attempts were kept forever, reset link and all
+DELETE FROM email_outbox WHERE expires_at <= statement_timestamp();
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_expires_at ON email_outbox (expires_at);
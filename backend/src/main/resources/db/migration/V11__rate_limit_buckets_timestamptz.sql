@@ -0,0 +1,4 @@
+-- refilled_at is compared with statement_timestamp() (timestamptz); as a plain TIMESTAMP the comparison went
+-- through each session's time zone, which pgjdbc takes from the JVM, so instances in different zones
+-- disagreed on elapsed time by hours. Existing values were written in the session zone, so cast in it.
+ALTER TABLE rate_limit_buckets ALTER COLUMN refilled_at TYPE TIMESTAMPTZ USING refilled_at::timestamptz;
@@ -0,0 +1,20 @@
+-- The outbox kept the whole reset link, raw token included, which undid hashing the tokens (V9).
+-- Rows now point at their token; the dispatcher issues the raw token when it sends and never stores it.
+-- Deferred, because the token row is written through JPA and only flushed at commit
+ALTER TABLE email_outbox ADD COLUMN IF NOT EXISTS token_id UUID;
+
+UPDATE email_outbox o
+SET token_id = t.id
+FROM password_reset_tokens t
+WHERE o.token_id IS NULL
+  AND t.token_hash = encode(sha256(convert_to(substring(o.reset_link FROM 'token=([^&]+)'), 'UTF8')), 'hex');
+
+-- Whatever can't be tied to a token would never be sendable
+DELETE FROM email_outbox WHERE token_id IS NULL;
+
+ALTER TABLE email_outbox ALTER COLUMN token_id SET NOT NULL;
+ALTER TABLE email_outbox ADD CONSTRAINT fk_email_outbox_token FOREIGN KEY (token_id)
+    REFERENCES password_reset_tokens (id) ON DELETE CASCADE DEFERRABLE INITIALLY DEFERRED;
+ALTER TABLE email_outbox DROP COLUMN IF EXISTS reset_link;
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_token_id ON email_outbox (token_id);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key VARCHAR(255) NOT NULL,
+    tokens DOUBLE PRECISION NOT NULL,
+    last_grant INTEGER NOT NULL DEFAULT 0,
+    refilled_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (bucket_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_limit_buckets_refilled_at ON rate_limit_buckets (refilled_at);
@@ -0,0 +1,10 @@
+-- New items take their position from a sequence; MAX(display_order) + 1 handed the same slot to concurrent creates.
+-- Each sequence starts after the highest position already in use.
+CREATE SEQUENCE IF NOT EXISTS projects_display_order_seq AS INTEGER;
+SELECT setval('projects_display_order_seq', COALESCE((SELECT MAX(display_order) FROM projects), 0) + 1, false);
+
+CREATE SEQUENCE IF NOT EXISTS skills_display_order_seq AS INTEGER;
+SELECT setval('skills_display_order_seq', COALESCE((SELECT MAX(display_order) FROM skills), 0) + 1, false);
+
+CREATE SEQUENCE IF NOT EXISTS spoken_languages_display_order_seq AS INTEGER;
+SELECT setval('spoken_languages_display_order_seq', COALESCE((SELECT MAX(display_order) FROM spoken_languages), 0) + 1, false);
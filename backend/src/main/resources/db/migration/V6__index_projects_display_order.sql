@@ -0,0 +1,2 @@
+-- Keyset pagination walks projects by (display_order, id)
+CREATE INDEX IF NOT EXISTS idx_projects_display_order_id ON projects (display_order, id);
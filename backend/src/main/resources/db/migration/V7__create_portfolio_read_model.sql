@@ -0,0 +1,7 @@
+-- One published document per portfolio section, rewritten inside each admin write transaction
+CREATE TABLE IF NOT EXISTS portfolio_read_model (
+    section VARCHAR(32) NOT NULL,
+    document JSONB NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (section)
+);
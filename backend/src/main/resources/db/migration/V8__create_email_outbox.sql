@@ -0,0 +1,13 @@
+-- Emails written in the same transaction as the state they announce, delivered later by the dispatcher
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id UUID NOT NULL,
+    recipient VARCHAR(320) NOT NULL,
+    reset_link VARCHAR(2048) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_next_attempt_at ON email_outbox (next_attempt_at);
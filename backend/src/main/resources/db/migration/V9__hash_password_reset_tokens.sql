@@ -0,0 +1,13 @@
+-- Reset tokens are looked up by their hex SHA-256 digest; the raw token is never stored
+ALTER TABLE password_reset_tokens ADD COLUMN IF NOT EXISTS token_hash VARCHAR(64);
+
+UPDATE password_reset_tokens
+SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex')
+WHERE token_hash IS NULL;
+
+ALTER TABLE password_reset_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE password_reset_tokens DROP COLUMN IF EXISTS token;
+ALTER TABLE password_reset_tokens ADD CONSTRAINT uk_password_reset_tokens_token_hash UNIQUE (token_hash);
+
+-- The purge job walks expired rows
+CREATE INDEX IF NOT EXISTS idx_password_reset_tokens_expires_at ON password_reset_tokens (expires_at);
@@ -1,5 +1,9 @@
 package com.gonzalomartinez.portfolio_backend.experience.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.experience.domain.Experience;
 import com.gonzalomartinez.portfolio_backend.experience.domain.ExperienceRepositoryPort;
@@ -13,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +37,12 @@ class ExperienceUseCaseServiceTest {
     @Mock
     private SanitizerPort inputSanitizer;
 
+    @Mock
+    private GetPortfolioSnapshotUseCase portfolioSnapshot;
+
+    @Mock
+    private PortfolioChangeNotifierPort changeNotifier;
+
     @InjectMocks
     private ExperienceUseCaseService experienceService;
 
@@ -114,8 +125,7 @@ class ExperienceUseCaseServiceTest {
 
     @Test
     void updateExperience_WhenFound_ReturnsUpdatedDto() {
-        when(experienceRepository.existsById(experienceId)).thenReturn(true);
-        when(experienceRepository.save(any(Experience.class))).thenReturn(experience);
+        when(experienceRepository.update(any(Experience.class))).thenReturn(Optional.of(experience));
 
         ExperienceDto dto = new ExperienceDto(
                 null, "Updated Corp", "Updated Corp ES", "Senior Dev", "Dev Senior", LocalDate.of(2023, 1, 1), null, null, null, List.of()
@@ -124,12 +134,12 @@ class ExperienceUseCaseServiceTest {
         ExperienceDto result = experienceService.updateExperience(experienceId, dto);
 
         assertNotNull(result);
-        verify(experienceRepository).save(any(Experience.class));
+        verify(experienceRepository).update(any(Experience.class));
     }
 
     @Test
     void updateExperience_WhenNotFound_ThrowsException() {
-        when(experienceRepository.existsById(experienceId)).thenReturn(false);
+        when(experienceRepository.update(any(Experience.class))).thenReturn(Optional.empty());
 
         ExperienceDto dto = new ExperienceDto(
                 null, "Test", "Test", "Dev", "Dev", LocalDate.now(), null, null, null, null
@@ -141,7 +151,7 @@ class ExperienceUseCaseServiceTest {
 
     @Test
     void deleteExperience_WhenExists_DeletesSuccessfully() {
-        when(experienceRepository.existsById(experienceId)).thenReturn(true);
+        when(experienceRepository.deleteById(experienceId)).thenReturn(true);
 
         experienceService.deleteExperience(experienceId);
 
@@ -150,10 +160,31 @@ class ExperienceUseCaseServiceTest {
 
     @Test
     void deleteExperience_WhenNotFound_ThrowsException() {
-        when(experienceRepository.existsById(experienceId)).thenReturn(false);
+        when(experienceRepository.deleteById(experienceId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class,
                 () -> experienceService.deleteExperience(experienceId));
-        verify(experienceRepository, never()).deleteById(any());
+        verify(experienceRepository).deleteById(experienceId);
+    }
+
+    @Test
+    void getPublishedExperiences_ReadsFromSnapshot() {
+        when(portfolioSnapshot.getSnapshot()).thenReturn(
+                new PortfolioSnapshot(null, List.of(), List.of(experience), List.of(), List.of(), 1, Instant.now()));
+
+        List<ExperienceDto> result = experienceService.getPublishedExperiences();
+
+        assertEquals(1, result.size());
+        assertEquals("Test Corp", result.get(0).companyEn());
+        verifyNoInteractions(experienceRepository);
+    }
+
+    @Test
+    void deleteExperience_WhenExists_NotifiesExperiencesChanged() {
+        when(experienceRepository.deleteById(experienceId)).thenReturn(true);
+
+        experienceService.deleteExperience(experienceId);
+
+        verify(changeNotifier).sectionChanged(PortfolioSection.EXPERIENCES);
     }
 }
@@ -1,5 +1,9 @@
 package com.gonzalomartinez.portfolio_backend.language.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguage;
 import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguageRepositoryPort;
@@ -13,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,6 +36,12 @@ class SpokenLanguageUseCaseServiceTest {
     @Mock
     private SanitizerPort inputSanitizer;
 
+    @Mock
+    private GetPortfolioSnapshotUseCase portfolioSnapshot;
+
+    @Mock
+    private PortfolioChangeNotifierPort changeNotifier;
+
     @InjectMocks
     private SpokenLanguageUseCaseService spokenLanguageService;
 
@@ -81,7 +92,7 @@ class SpokenLanguageUseCaseServiceTest {
 
     @Test
     void createSpokenLanguage_WithNullOrder_SetsNextOrder() {
-        when(spokenLanguageRepository.findMaxOrder()).thenReturn(5);
+        when(spokenLanguageRepository.nextOrders(1)).thenReturn(List.of(6));
         when(spokenLanguageRepository.save(any(SpokenLanguage.class))).thenReturn(spokenLanguage);
 
         SpokenLanguageDto dto = new SpokenLanguageDto(
@@ -90,12 +101,12 @@ class SpokenLanguageUseCaseServiceTest {
 
         spokenLanguageService.createSpokenLanguage(dto);
 
-        verify(spokenLanguageRepository).findMaxOrder();
+        verify(spokenLanguageRepository).nextOrders(1);
     }
 
     @Test
-    void createSpokenLanguage_WithNullOrEmptyRepo_OrderIsOne() {
-        when(spokenLanguageRepository.findMaxOrder()).thenReturn(null);
+    void createSpokenLanguage_WithNullOrder_TakesOrderFromSequence() {
+        when(spokenLanguageRepository.nextOrders(1)).thenReturn(List.of(1));
         when(spokenLanguageRepository.save(any(SpokenLanguage.class))).thenAnswer(i -> i.getArgument(0));
 
         SpokenLanguageDto dto = new SpokenLanguageDto(
@@ -109,8 +120,7 @@ class SpokenLanguageUseCaseServiceTest {
 
     @Test
     void updateSpokenLanguage_WhenFound_ReturnsUpdatedDto() {
-        when(spokenLanguageRepository.existsById(spokenLanguageId)).thenReturn(true);
-        when(spokenLanguageRepository.save(any(SpokenLanguage.class))).thenReturn(spokenLanguage);
+        when(spokenLanguageRepository.update(any(SpokenLanguage.class))).thenReturn(Optional.of(spokenLanguage));
 
         SpokenLanguageDto dto = new SpokenLanguageDto(
                 null, "Spanish Updated", "Espanol Actualizado", "Native", "Nativo", 100, 1
@@ -119,12 +129,12 @@ class SpokenLanguageUseCaseServiceTest {
         SpokenLanguageDto result = spokenLanguageService.updateSpokenLanguage(spokenLanguageId, dto);
 
         assertNotNull(result);
-        verify(spokenLanguageRepository).save(any(SpokenLanguage.class));
+        verify(spokenLanguageRepository).update(any(SpokenLanguage.class));
     }
 
     @Test
     void updateSpokenLanguage_WhenNotFound_ThrowsException() {
-        when(spokenLanguageRepository.existsById(spokenLanguageId)).thenReturn(false);
+        when(spokenLanguageRepository.update(any(SpokenLanguage.class))).thenReturn(Optional.empty());
 
         SpokenLanguageDto dto = new SpokenLanguageDto(
                 null, "Test", "Test", "Test", "Test", 50, null
@@ -137,7 +147,7 @@ class SpokenLanguageUseCaseServiceTest {
 
     @Test
     void deleteSpokenLanguage_WhenExists_DeletesSuccessfully() {
-        when(spokenLanguageRepository.existsById(spokenLanguageId)).thenReturn(true);
+        when(spokenLanguageRepository.deleteById(spokenLanguageId)).thenReturn(true);
 
         spokenLanguageService.deleteSpokenLanguage(spokenLanguageId);
 
@@ -146,10 +156,31 @@ class SpokenLanguageUseCaseServiceTest {
 
     @Test
     void deleteSpokenLanguage_WhenNotFound_ThrowsException() {
-        when(spokenLanguageRepository.existsById(spokenLanguageId)).thenReturn(false);
+        when(spokenLanguageRepository.deleteById(spokenLanguageId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class,
                 () -> spokenLanguageService.deleteSpokenLanguage(spokenLanguageId));
-        verify(spokenLanguageRepository, never()).deleteById(any());
+        verify(spokenLanguageRepository).deleteById(spokenLanguageId);
+    }
+
+    @Test
+    void getPublishedSpokenLanguages_ReadsFromSnapshot() {
+        when(portfolioSnapshot.getSnapshot()).thenReturn(
+                new PortfolioSnapshot(null, List.of(), List.of(), List.of(), List.of(spokenLanguage), 1, Instant.now()));
+
+        List<SpokenLanguageDto> result = spokenLanguageService.getPublishedSpokenLanguages();
+
+        assertEquals(1, result.size());
+        assertEquals("Spanish", result.get(0).nameEn());
+        verifyNoInteractions(spokenLanguageRepository);
+    }
+
+    @Test
+    void deleteSpokenLanguage_WhenExists_NotifiesSpokenLanguagesChanged() {
+        when(spokenLanguageRepository.deleteById(spokenLanguageId)).thenReturn(true);
+
+        spokenLanguageService.deleteSpokenLanguage(spokenLanguageId);
+
+        verify(changeNotifier).sectionChanged(PortfolioSection.SPOKEN_LANGUAGES);
     }
 }
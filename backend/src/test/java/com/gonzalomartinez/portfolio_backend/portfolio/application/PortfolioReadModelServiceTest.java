@@ -0,0 +1,77 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.experience.domain.ExperienceRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguageRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.profile.domain.ProfileRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.skill.domain.Skill;
+import com.gonzalomartinez.portfolio_backend.skill.domain.SkillRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PortfolioReadModelServiceTest {
+
+    @Mock
+    private ProfileRepositoryPort profileRepository;
+
+    @Mock
+    private ProjectRepositoryPort projectRepository;
+
+    @Mock
+    private ExperienceRepositoryPort experienceRepository;
+
+    @Mock
+    private SkillRepositoryPort skillRepository;
+
+    @Mock
+    private SpokenLanguageRepositoryPort spokenLanguageRepository;
+
+    @Mock
+    private PortfolioReadModelPort readModel;
+
+    @InjectMocks
+    private PortfolioReadModelService readModelService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void update_StoresTheSectionRenderedFromItsRepository() {
+        Skill skill = new Skill(UUID.randomUUID(), "Java", "Java", 90, "Backend", null, 1);
+        when(skillRepository.findAllByOrderByOrderAsc()).thenReturn(List.of(skill));
+        ArgumentCaptor<Supplier<?>> document = ArgumentCaptor.forClass(Supplier.class);
+
+        readModelService.update(PortfolioSection.SKILLS);
+
+        verify(readModel).store(eq(PortfolioSection.SKILLS), document.capture());
+        assertEquals(List.of(skill), document.getValue().get());
+        verifyNoInteractions(projectRepository, experienceRepository);
+    }
+
+    @Test
+    void populateMissing_StoresOnlySectionsNotYetInTheReadModel() {
+        when(readModel.storedSections()).thenReturn(EnumSet.complementOf(EnumSet.of(PortfolioSection.PROFILE)));
+
+        readModelService.populateMissing();
+
+        verify(readModel).store(eq(PortfolioSection.PROFILE), any());
+        verify(readModel, times(1)).store(any(), any());
+    }
+}
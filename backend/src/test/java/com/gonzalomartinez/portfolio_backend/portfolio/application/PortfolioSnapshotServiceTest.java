@@ -0,0 +1,160 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.experience.domain.ExperienceRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.language.domain.SpokenLanguageRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
+import com.gonzalomartinez.portfolio_backend.profile.domain.ProfileRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.skill.domain.Skill;
+import com.gonzalomartinez.portfolio_backend.skill.domain.SkillRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PortfolioSnapshotServiceTest {
+
+    @Mock
+    private ProfileRepositoryPort profileRepository;
+
+    @Mock
+    private ProjectRepositoryPort projectRepository;
+
+    @Mock
+    private ExperienceRepositoryPort experienceRepository;
+
+    @Mock
+    private SkillRepositoryPort skillRepository;
+
+    @Mock
+    private SpokenLanguageRepositoryPort spokenLanguageRepository;
+
+    @Mock
+    private PortfolioReadModelPort readModel;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PortfolioSnapshotService snapshotService;
+
+    private Skill skill;
+
+    @BeforeEach
+    void setUp() {
+        skill = new Skill(UUID.randomUUID(), "Java", "Java", 90, "Backend", null, 1);
+
+        when(profileRepository.findFirst()).thenReturn(Optional.empty());
+        when(projectRepository.findAllByOrderByOrderAsc()).thenReturn(List.of());
+        when(experienceRepository.findAllByOrderByEndDateDescStartDateDesc()).thenReturn(List.of());
+        when(skillRepository.findAllByOrderByOrderAsc()).thenReturn(List.of(skill));
+        when(spokenLanguageRepository.findAllByOrderByOrderAsc()).thenReturn(List.of());
+    }
+
+    @Test
+    void getSnapshot_BuildsOnceAndServesFromMemory() {
+        PortfolioSnapshot first = snapshotService.getSnapshot();
+        PortfolioSnapshot second = snapshotService.getSnapshot();
+
+        assertSame(first, second);
+        assertEquals(List.of(skill), first.skills());
+        verify(skillRepository, times(1)).findAllByOrderByOrderAsc();
+    }
+
+    @Test
+    void getSnapshot_ColdStartBuildsInsideReadOnlyTransaction() {
+        snapshotService.getSnapshot();
+
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void refresh_ReloadsOnlyTheChangedSection() {
+        PortfolioSnapshot before = snapshotService.getSnapshot();
+        Skill added = new Skill(UUID.randomUUID(), "Go", "Go", 70, null, null, 2);
+        when(skillRepository.findAllByOrderByOrderAsc()).thenReturn(List.of(skill, added));
+
+        snapshotService.refresh(PortfolioSection.SKILLS);
+        PortfolioSnapshot after = snapshotService.getSnapshot();
+
+        assertNotSame(before, after);
+        assertTrue(after.version() > before.version());
+        assertEquals(2, after.skills().size());
+        assertEquals(1, before.skills().size());
+        verify(projectRepository, times(1)).findAllByOrderByOrderAsc();
+    }
+
+    @Test
+    void refresh_WithoutSnapshot_BuildsEverything() {
+        snapshotService.refresh(PortfolioSection.PROFILE);
+
+        verify(projectRepository).findAllByOrderByOrderAsc();
+        verify(skillRepository).findAllByOrderByOrderAsc();
+        assertTrue(snapshotService.getSnapshot().findProfile().isEmpty());
+    }
+
+    @Test
+    void refresh_WithReadModel_LoadsSnapshotWithoutTouchingTheTables() {
+        snapshotService.getSnapshot();
+        Skill added = new Skill(UUID.randomUUID(), "Go", "Go", 70, null, null, 2);
+        when(readModel.load(2)).thenReturn(Optional.of(
+                new PortfolioSnapshot(null, List.of(), List.of(), List.of(skill, added), List.of(), 2, Instant.now())));
+
+        snapshotService.refresh(PortfolioSection.SKILLS);
+
+        assertEquals(List.of(skill, added), snapshotService.getSnapshot().skills());
+        assertEquals(2, snapshotService.getSnapshot().version());
+        verify(skillRepository, times(1)).findAllByOrderByOrderAsc();
+    }
+
+    @Test
+    void refresh_WhenItFails_NextReadRebuildsFromCommittedData() {
+        PortfolioSnapshot before = snapshotService.getSnapshot();
+        Skill added = new Skill(UUID.randomUUID(), "Go", "Go", 70, null, null, 2);
+        when(skillRepository.findAllByOrderByOrderAsc())
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(List.of(skill, added));
+
+        assertThrows(IllegalStateException.class, () -> snapshotService.refresh(PortfolioSection.SKILLS));
+        PortfolioSnapshot after = snapshotService.getSnapshot();
+
+        assertEquals(List.of(skill, added), after.skills());
+        assertTrue(after.version() > before.version());
+        assertSame(after, snapshotService.getSnapshot());
+    }
+
+    @Test
+    void getSnapshot_WhenRebuildOfStaleSnapshotFails_ServesLastSnapshotAndRetries() {
+        PortfolioSnapshot before = snapshotService.getSnapshot();
+        Skill added = new Skill(UUID.randomUUID(), "Go", "Go", 70, null, null, 2);
+        when(skillRepository.findAllByOrderByOrderAsc())
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(List.of(skill, added));
+
+        assertThrows(IllegalStateException.class, () -> snapshotService.refresh(PortfolioSection.SKILLS));
+
+        assertSame(before, snapshotService.getSnapshot());
+        assertEquals(List.of(skill, added), snapshotService.getSnapshot().skills());
+    }
+}
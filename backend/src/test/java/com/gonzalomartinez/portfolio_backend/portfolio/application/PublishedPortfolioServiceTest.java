@@ -0,0 +1,79 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.application;
+
+import com.gonzalomartinez.portfolio_backend.experience.application.ManageExperienceUseCase;
+import com.gonzalomartinez.portfolio_backend.language.application.ManageSpokenLanguageUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.profile.application.GetProfileUseCase;
+import com.gonzalomartinez.portfolio_backend.project.application.ManageProjectUseCase;
+import com.gonzalomartinez.portfolio_backend.project.application.ProjectDto;
+import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
+import com.gonzalomartinez.portfolio_backend.skill.application.ManageSkillUseCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PublishedPortfolioServiceTest {
+
+    @Mock
+    private GetProfileUseCase profileUseCase;
+
+    @Mock
+    private ManageProjectUseCase projectUseCase;
+
+    @Mock
+    private ManageExperienceUseCase experienceUseCase;
+
+    @Mock
+    private ManageSkillUseCase skillUseCase;
+
+    @Mock
+    private ManageSpokenLanguageUseCase spokenLanguageUseCase;
+
+    @InjectMocks
+    private PublishedPortfolioService portfolioService;
+
+    @Test
+    void getPublishedPortfolio_WithAllSections_ReadsEverySection() {
+        ProjectDto project = new ProjectDto(
+                UUID.randomUUID(), "Portfolio", "Portafolio", null, null, List.of(), List.of(), null, null, null, true, 1, null
+        );
+        when(profileUseCase.getPublishedProfile()).thenThrow(new ResourceNotFoundException("Profile", "id", "any"));
+        when(projectUseCase.getPublishedProjects()).thenReturn(List.of(project));
+        when(experienceUseCase.getPublishedExperiences()).thenReturn(List.of());
+        when(skillUseCase.getPublishedSkills()).thenReturn(List.of());
+        when(spokenLanguageUseCase.getPublishedSpokenLanguages()).thenReturn(List.of());
+
+        PublicPortfolioDto result = portfolioService.getPublishedPortfolio(EnumSet.allOf(PortfolioSection.class));
+
+        assertNull(result.profile());
+        assertEquals(List.of(project), result.projects());
+        assertNotNull(result.experiences());
+        assertNotNull(result.skills());
+        assertNotNull(result.spokenLanguages());
+    }
+
+    @Test
+    void getPublishedPortfolio_WithSelectedSections_SkipsTheRest() {
+        when(skillUseCase.getPublishedSkills()).thenReturn(List.of());
+
+        PublicPortfolioDto result = portfolioService.getPublishedPortfolio(EnumSet.of(PortfolioSection.SKILLS));
+
+        assertNotNull(result.skills());
+        assertNull(result.projects());
+        verify(skillUseCase).getPublishedSkills();
+        verifyNoInteractions(profileUseCase, projectUseCase, experienceUseCase, spokenLanguageUseCase);
+    }
+}
@@ -0,0 +1,153 @@
+package com.gonzalomartinez.portfolio_backend.portfolio.infrastructure.web;
+
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PublishedResponseCacheTest {
+
+    private static final Instant PUBLISHED_AT = Instant.parse("2026-01-15T10:00:00Z");
+
+    private final GetPortfolioSnapshotUseCase portfolioSnapshot = mock(GetPortfolioSnapshotUseCase.class);
+    private final PublishedResponseCache cache = new PublishedResponseCache(portfolioSnapshot, JsonMapper.builder().build());
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(portfolioSnapshot.getSnapshot()).thenReturn(snapshot(1));
+    }
+
+    @Test
+    void respond_ReusesBytesWhileVersionIsUnchanged() {
+        ResponseEntity<byte[]> first = cache.respond("skills", new MockHttpServletRequest(), this::body);
+        ResponseEntity<byte[]> second = cache.respond("skills", new MockHttpServletRequest(), this::body);
+
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(1, serializations.get());
+        assertEquals("[\"Java\"]", new String(first.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void respond_RegeneratesWhenVersionChanges() {
+        cache.respond("skills", new MockHttpServletRequest(), this::body);
+        when(portfolioSnapshot.getSnapshot()).thenReturn(snapshot(2));
+
+        cache.respond("skills", new MockHttpServletRequest(), this::body);
+
+        assertEquals(2, serializations.get());
+    }
+
+    @Test
+    void respond_ServesGzipWhenAccepted() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+
+        ResponseEntity<byte[]> response = cache.respond("skills", request, this::body);
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertEquals("[\"Java\"]", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void respond_ServesIdentityWhenGzipIsRefused() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+
+        ResponseEntity<byte[]> response = cache.respond("skills", request, this::body);
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void respond_MatchingIfNoneMatch_ReturnsNotModifiedWithoutBody() {
+        String etag = cache.respond("skills", new MockHttpServletRequest(), this::body).getHeaders().getETag();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag);
+
+        ResponseEntity<byte[]> response = cache.respond("skills", request, this::body);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(etag, response.getHeaders().getETag());
+        assertEquals(1, serializations.get());
+    }
+
+    @Test
+    void respond_GzipAndIdentityHaveDistinctEtags() {
+        MockHttpServletRequest gzipRequest = new MockHttpServletRequest();
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        String identityEtag = cache.respond("skills", new MockHttpServletRequest(), this::body).getHeaders().getETag();
+        String gzipEtag = cache.respond("skills", gzipRequest, this::body).getHeaders().getETag();
+
+        assertNotEquals(identityEtag, gzipEtag);
+    }
+
+    @Test
+    void respond_IfModifiedSinceNotBeforePublish_ReturnsNotModified() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, PUBLISHED_AT.toEpochMilli());
+
+        ResponseEntity<byte[]> response = cache.respond("skills", request, this::body);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(PUBLISHED_AT.toEpochMilli(), response.getHeaders().getLastModified());
+    }
+
+    @Test
+    void respond_StaleIfModifiedSince_ReturnsBody() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, PUBLISHED_AT.minusSeconds(60).toEpochMilli());
+
+        ResponseEntity<byte[]> response = cache.respond("skills", request, this::body);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+    }
+
+    @Test
+    void respond_WithLanguage_CachesEachLanguageSeparately() {
+        ResponseEntity<byte[]> english = cache.respond("skills", "en", new MockHttpServletRequest(), this::body, language -> List.of(language.code()));
+        ResponseEntity<byte[]> spanish = cache.respond("skills", "ES", new MockHttpServletRequest(), this::body, language -> List.of(language.code()));
+        ResponseEntity<byte[]> bilingual = cache.respond("skills", null, new MockHttpServletRequest(), this::body, language -> List.of(language.code()));
+
+        assertEquals("[\"en\"]", new String(english.getBody(), StandardCharsets.UTF_8));
+        assertEquals("[\"es\"]", new String(spanish.getBody(), StandardCharsets.UTF_8));
+        assertEquals("[\"Java\"]", new String(bilingual.getBody(), StandardCharsets.UTF_8));
+        assertNotEquals(english.getHeaders().getETag(), spanish.getHeaders().getETag());
+    }
+
+    @Test
+    void respond_WithUnsupportedLanguage_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.respond("skills", "fr", new MockHttpServletRequest(), this::body, language -> List.of()));
+    }
+
+    private List<String> body() {
+        serializations.incrementAndGet();
+        return List.of("Java");
+    }
+
+    private static PortfolioSnapshot snapshot(long version) {
+        return new PortfolioSnapshot(null, List.of(), List.of(), List.of(), List.of(), version, PUBLISHED_AT);
+    }
+}
@@ -1,9 +1,14 @@
 package com.gonzalomartinez.portfolio_backend.profile.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.profile.domain.Profile;
 import com.gonzalomartinez.portfolio_backend.profile.domain.ProfileRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.shared.application.SanitizerPort;
+import com.gonzalomartinez.portfolio_backend.shared.domain.ContentLanguage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +38,12 @@ class ProfileUseCaseServiceTest {
     @Mock
     private SanitizerPort inputSanitizer;
 
+    @Mock
+    private GetPortfolioSnapshotUseCase portfolioSnapshot;
+
+    @Mock
+    private PortfolioChangeNotifierPort changeNotifier;
+
     @InjectMocks
     private ProfileUseCaseService profileService;
 
@@ -64,12 +76,12 @@ class ProfileUseCaseServiceTest {
     }
 
     @Test
-    void updateProfile_SavesAndReturnsDto() {
+    void updateProfile_WhenProfileExists_UpdatesInPlace() {
         Profile existing = new Profile(
                 UUID.randomUUID(), null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, "Old", null, null, null, null, null, null, null, null
         );
         when(profileRepository.findFirst()).thenReturn(Optional.of(existing));
-        when(profileRepository.save(any(Profile.class))).thenReturn(existing);
+        when(profileRepository.update(any(Profile.class))).thenReturn(Optional.of(existing));
 
         ProfileDto updateDto = new ProfileDto(
                 null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, "Gonzalo", "Gonzalo", null, null, null, null, null, null, null
@@ -78,6 +90,44 @@ class ProfileUseCaseServiceTest {
         ProfileDto result = profileService.updateProfile(updateDto);
 
         assertNotNull(result);
-        verify(profileRepository).save(any(Profile.class));
+        verify(profileRepository).update(any(Profile.class));
+        verify(profileRepository, never()).save(any());
+    }
+
+    @Test
+    void getPublishedProfile_WhenSnapshotHasNoProfile_ThrowsException() {
+        when(portfolioSnapshot.getSnapshot()).thenReturn(
+                new PortfolioSnapshot(null, List.of(), List.of(), List.of(), List.of(), 1, Instant.now()));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> profileService.getPublishedProfile());
+        verifyNoInteractions(profileRepository);
+    }
+
+    @Test
+    void updateProfile_NotifiesProfileChanged() {
+        when(profileRepository.findFirst()).thenReturn(Optional.empty());
+        when(profileRepository.save(any(Profile.class))).thenAnswer(i -> i.getArgument(0));
+
+        profileService.updateProfile(new ProfileDto(
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, "Gonzalo", "Gonzalo", null, null, null, null, null, null, null
+        ));
+
+        verify(changeNotifier).sectionChanged(PortfolioSection.PROFILE);
+    }
+
+    @Test
+    void getPublishedProfile_WithLanguage_ProjectsThatLanguageOnly() {
+        Profile profile = new Profile(
+                UUID.randomUUID(), "Hello", "Hola", null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, "Gonzalo", "Gonzalo", null, null, null, "Madrid, Spain", "Madrid, España", null, null
+        );
+        when(portfolioSnapshot.getSnapshot()).thenReturn(
+                new PortfolioSnapshot(profile, List.of(), List.of(), List.of(), List.of(), 1, Instant.now()));
+
+        LocalizedProfileDto result = profileService.getPublishedProfile(ContentLanguage.ES);
+
+        assertEquals("Hola", result.greeting());
+        assertEquals("Madrid, España", result.location());
+        verifyNoInteractions(profileRepository);
     }
 }
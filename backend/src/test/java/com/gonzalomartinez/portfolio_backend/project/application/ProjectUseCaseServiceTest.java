@@ -1,7 +1,13 @@
 package com.gonzalomartinez.portfolio_backend.project.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.project.domain.Project;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectFilter;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectKey;
 import com.gonzalomartinez.portfolio_backend.project.domain.ProjectType;
 import com.gonzalomartinez.portfolio_backend.project.domain.ProjectRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.shared.application.SanitizerPort;
@@ -14,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +40,12 @@ class ProjectUseCaseServiceTest {
     @Mock
     private SanitizerPort inputSanitizer;
 
+    @Mock
+    private GetPortfolioSnapshotUseCase portfolioSnapshot;
+
+    @Mock
+    private PortfolioChangeNotifierPort changeNotifier;
+
     @InjectMocks
     private ProjectUseCaseService projectService;
 
@@ -118,7 +131,7 @@ class ProjectUseCaseServiceTest {
 
     @Test
     void createProject_WithNullOrder_SetsNextOrder() {
-        when(projectRepository.findMaxOrder()).thenReturn(5);
+        when(projectRepository.nextOrders(1)).thenReturn(List.of(6));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
 
         ProjectDto dto = new ProjectDto(
@@ -127,12 +140,12 @@ class ProjectUseCaseServiceTest {
 
         projectService.createProject(dto);
 
-        verify(projectRepository).findMaxOrder();
+        verify(projectRepository).nextOrders(1);
     }
 
     @Test
-    void createProject_WithNullOrEmptyRepo_OrderIsOne() {
-        when(projectRepository.findMaxOrder()).thenReturn(null);
+    void createProject_WithNullOrder_TakesOrderFromSequence() {
+        when(projectRepository.nextOrders(1)).thenReturn(List.of(1));
         when(projectRepository.save(any(Project.class))).thenAnswer(i -> i.getArgument(0));
 
         ProjectDto dto = new ProjectDto(
@@ -146,8 +159,7 @@ class ProjectUseCaseServiceTest {
 
     @Test
     void updateProject_WhenFound_ReturnsUpdatedDto() {
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
+        when(projectRepository.update(any(Project.class))).thenReturn(Optional.of(project));
 
         ProjectDto dto = new ProjectDto(
                 null, "Updated Title", "Titulo Actualizado", null, null, null, List.of(), null, null, null, null, null, null
@@ -156,12 +168,12 @@ class ProjectUseCaseServiceTest {
         ProjectDto result = projectService.updateProject(projectId, dto);
 
         assertNotNull(result);
-        verify(projectRepository).save(any(Project.class));
+        verify(projectRepository).update(any(Project.class));
     }
 
     @Test
     void updateProject_WhenNotFound_ThrowsException() {
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(projectRepository.update(any(Project.class))).thenReturn(Optional.empty());
 
         ProjectDto dto = new ProjectDto(
                 null, "Test", "Test", null, null, null, List.of(), null, null, null, null, null, null
@@ -173,7 +185,7 @@ class ProjectUseCaseServiceTest {
 
     @Test
     void deleteProject_WhenExists_DeletesSuccessfully() {
-        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectRepository.deleteById(projectId)).thenReturn(true);
 
         projectService.deleteProject(projectId);
 
@@ -182,10 +194,79 @@ class ProjectUseCaseServiceTest {
 
     @Test
     void deleteProject_WhenNotFound_ThrowsException() {
-        when(projectRepository.existsById(projectId)).thenReturn(false);
+        when(projectRepository.deleteById(projectId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class,
                 () -> projectService.deleteProject(projectId));
-        verify(projectRepository, never()).deleteById(any());
+        verify(projectRepository).deleteById(projectId);
+    }
+
+    @Test
+    void getPublishedFeaturedProjects_ReadsFromSnapshot() {
+        Project notFeatured = new Project(
+                UUID.randomUUID(), "Other", "Otro", null, null, List.of(), List.of(),
+                null, null, ProjectType.OTHER, false, 2, LocalDateTime.now()
+        );
+        when(portfolioSnapshot.getSnapshot()).thenReturn(
+                new PortfolioSnapshot(null, List.of(project, notFeatured), List.of(), List.of(), List.of(), 1, Instant.now()));
+
+        List<ProjectDto> result = projectService.getPublishedFeaturedProjects();
+
+        assertEquals(1, result.size());
+        assertEquals(projectId, result.get(0).id());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void deleteProject_WhenExists_NotifiesProjectsChanged() {
+        when(projectRepository.deleteById(projectId)).thenReturn(true);
+
+        projectService.deleteProject(projectId);
+
+        verify(changeNotifier).sectionChanged(PortfolioSection.PROJECTS);
+    }
+
+    @Test
+    void getPublishedProjectPage_FiltersAndWalksPagesByCursor() {
+        Project second = projectAt(2, ProjectType.WEB, List.of("java", "SQL"));
+        Project mobile = projectAt(3, ProjectType.MOBILE, List.of("Java"));
+        Project third = projectAt(4, ProjectType.WEB, List.of("Java"));
+        when(portfolioSnapshot.getSnapshot()).thenReturn(new PortfolioSnapshot(
+                null, List.of(third, mobile, second, project), List.of(), List.of(), List.of(), 1, Instant.now()));
+        ProjectFilter filter = new ProjectFilter(ProjectType.WEB, null, "Java");
+
+        ProjectPage<ProjectDto> first = projectService.getPublishedProjectPage(filter, null, 1);
+        ProjectPage<ProjectDto> last = projectService.getPublishedProjectPage(filter, first.nextCursor(), 1);
+
+        assertEquals(List.of(second.id()), first.items().stream().map(ProjectDto::id).toList());
+        assertEquals(List.of(third.id()), last.items().stream().map(ProjectDto::id).toList());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void getProjectPage_RequestsOneExtraRowToDetectNextPage() {
+        Project second = projectAt(2, ProjectType.WEB, List.of());
+        ProjectFilter filter = new ProjectFilter(null, true, null);
+        when(projectRepository.findPage(filter, null, 2)).thenReturn(List.of(project, second));
+
+        ProjectPage<ProjectDto> page = projectService.getProjectPage(filter, null, 1);
+
+        assertEquals(1, page.items().size());
+        assertNotNull(page.nextCursor());
+
+        projectService.getProjectPage(filter, page.nextCursor(), 1);
+        verify(projectRepository).findPage(filter, new ProjectKey(1, projectId), 2);
+    }
+
+    @Test
+    void getProjectPage_WithMalformedCursor_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> projectService.getProjectPage(new ProjectFilter(null, null, null), "not-a-cursor", 10));
+        verifyNoInteractions(projectRepository);
+    }
+
+    private Project projectAt(int order, ProjectType type, List<String> technologies) {
+        return new Project(UUID.randomUUID(), "P" + order, "P" + order, null, null, List.of(), technologies,
+                null, null, type, false, order, LocalDateTime.now());
     }
 }
@@ -0,0 +1,147 @@
+package com.gonzalomartinez.portfolio_backend.project.infrastructure.adapter.out.persistence;
+
+import com.gonzalomartinez.portfolio_backend.project.domain.Project;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectFilter;
+import com.gonzalomartinez.portfolio_backend.project.domain.ProjectType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ProjectRepositoryAdapter.class, ProjectRepositoryAdapterTest.RowCounter.class})
+class ProjectRepositoryAdapterTest {
+
+    private static final int PROJECTS = 3;
+    private static final int IMAGES = 10;
+    private static final int TECHNOLOGIES = 15;
+
+    @Autowired
+    private ProjectRepositoryAdapter projectRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RowCounter rowCounter;
+
+    @BeforeEach
+    void setUp() {
+        List<Project> projects = new ArrayList<>();
+        for (int p = 0; p < PROJECTS; p++) {
+            int project = p;
+            projects.add(new Project(null, "Project " + p, "Proyecto " + p, null, null,
+                    IntStream.range(0, IMAGES).mapToObj(i -> "https://example.com/" + project + "/" + i + ".png").toList(),
+                    IntStream.range(0, TECHNOLOGIES).mapToObj(i -> "Tech " + i).toList(),
+                    null, null, ProjectType.WEB, true, p + 1, LocalDateTime.now()));
+        }
+        projectRepository.saveAll(projects);
+        entityManager.flush();
+        entityManager.clear();
+        rowCounter.reset();
+    }
+
+    @Test
+    void findAllByOrderByOrderAsc_ReadsRowsLinearInCollectionSizes() {
+        List<Project> projects = projectRepository.findAllByOrderByOrderAsc();
+
+        assertEquals(PROJECTS, projects.size());
+        for (Project project : projects) {
+            assertEquals(IMAGES, project.imageUrls().size());
+            assertEquals(TECHNOLOGIES, project.technologies().size());
+        }
+        // Base rows plus one row per image and per technology; a join across both would return PROJECTS * 150 rows
+        assertEquals(3, rowCounter.queries());
+        assertEquals(PROJECTS * (1 + IMAGES + TECHNOLOGIES), rowCounter.rows());
+    }
+
+    @Test
+    void findPage_LoadsCollectionsForThePageOnly() {
+        List<Project> page = projectRepository.findPage(new ProjectFilter(null, null, "tech 3"), null, 2);
+
+        assertEquals(List.of("Project 0", "Project 1"), page.stream().map(Project::titleEn).toList());
+        assertEquals(List.of("Tech 0", "Tech 1"), page.getFirst().technologies().subList(0, 2));
+        assertEquals(3, rowCounter.queries());
+        assertEquals(2 * (1 + IMAGES + TECHNOLOGIES), rowCounter.rows());
+    }
+
+    @Test
+    void findById_LoadsEachCollectionSeparately() {
+        Project first = projectRepository.findAllByOrderByOrderAsc().getFirst();
+        entityManager.clear();
+        rowCounter.reset();
+
+        Project project = projectRepository.findById(first.id()).orElseThrow();
+
+        assertEquals(IMAGES, project.imageUrls().size());
+        assertEquals(TECHNOLOGIES, project.technologies().size());
+        assertEquals(1 + IMAGES + TECHNOLOGIES, rowCounter.rows());
+    }
+
+    // Counts queries and result set rows crossing the JDBC boundary
+    static class RowCounter implements BeanPostProcessor {
+
+        private final AtomicInteger queries = new AtomicInteger();
+        private final AtomicInteger rows = new AtomicInteger();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof DataSource ? wrap(DataSource.class, bean) : bean;
+        }
+
+        void reset() {
+            queries.set(0);
+            rows.set(0);
+        }
+
+        int queries() {
+            return queries.get();
+        }
+
+        int rows() {
+            return rows.get();
+        }
+
+        private Object wrap(Class<?> type, Object target) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                Class<?> returnType = method.getReturnType();
+                if (returnType == ResultSet.class && result != null) {
+                    if (method.getName().equals("executeQuery")) {
+                        queries.incrementAndGet();
+                    }
+                    return wrap(ResultSet.class, result);
+                }
+                if (type == ResultSet.class && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                    rows.incrementAndGet();
+                }
+                if (result != null && (returnType == Connection.class || Statement.class.isAssignableFrom(returnType))) {
+                    return wrap(returnType, result);
+                }
+                return result;
+            });
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint =
+            new FlightRecordingEndpoint("default", Duration.ofMinutes(5), DataSize.ofMegabytes(20));
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    void download_WithoutRecording_ReturnsNotFound() throws Exception {
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.download().getStatus());
+    }
+
+    @Test
+    void startThenStop_DownloadContainsCustomEvents() throws Exception {
+        assertEquals("RUNNING", endpoint.start(null).state());
+
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        event.repository = "SkillRepositoryAdapter";
+        event.method = "findAll";
+        event.commit();
+
+        FlightRecordingEndpoint.RecordingStatus stopped = endpoint.stop();
+        assertEquals("STOPPED", stopped.state());
+        assertEquals("default", stopped.settings());
+
+        Resource dump = endpoint.download().getBody();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump.getFile().toPath());
+        assertTrue(events.stream().anyMatch(recorded ->
+                recorded.getEventType().getName().equals("portfolio.RepositoryCall")
+                        && recorded.getString("method").equals("findAll")));
+    }
+
+    @Test
+    void start_DoesNotRecordEnvironmentOrSystemProperties() throws Exception {
+        endpoint.start(null);
+        endpoint.stop();
+
+        Resource dump = endpoint.download().getBody();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump.getFile().toPath());
+        assertTrue(events.stream().noneMatch(recorded ->
+                FlightRecordingEndpoint.SECRET_BEARING_EVENTS.contains(recorded.getEventType().getName())));
+    }
+
+    @Test
+    void download_EachDumpOutlivesLaterDownloadsAndGoesWhenItsStreamCloses() throws Exception {
+        endpoint.start(null);
+
+        Resource first = endpoint.download().getBody();
+        Resource second = endpoint.download().getBody();
+        Path firstFile = first.getFile().toPath();
+
+        assertTrue(Files.exists(firstFile));
+        try (InputStream in = first.getInputStream()) {
+            assertTrue(in.readAllBytes().length > 0);
+        }
+        assertFalse(Files.exists(firstFile));
+        assertTrue(Files.exists(second.getFile().toPath()));
+    }
+
+    @Test
+    void close_DeletesDumpsThatWereNeverStreamed() throws Exception {
+        endpoint.start(null);
+        Path dump = endpoint.download().getBody().getFile().toPath();
+
+        endpoint.close();
+
+        assertFalse(Files.exists(dump));
+    }
+}
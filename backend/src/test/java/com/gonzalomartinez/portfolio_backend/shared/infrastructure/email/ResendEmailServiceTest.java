@@ -0,0 +1,137 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.email;
+
+import com.gonzalomartinez.portfolio_backend.shared.domain.exception.EmailSendException;
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.config.ResendProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResendEmailServiceTest {
+
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicLong delayMillis = new AtomicLong();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicReference<String> lastBody = new AtomicReference<>();
+    private final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer server;
+    private ResendEmailService emailService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/emails", this::respond);
+        server.start();
+
+        ResendProperties properties = new ResendProperties();
+        properties.setApiKey("test-key");
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setReadTimeout(Duration.ofMillis(300));
+        properties.setCircuitBreakerFailureThreshold(2);
+        properties.setCircuitBreakerOpenDuration(Duration.ofSeconds(30));
+        emailService = new ResendEmailService(properties, meterRegistry, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailService.close();
+        server.stop(0);
+    }
+
+    @Test
+    void sendPasswordResetEmail_PostsToProviderAndRecordsLatency() {
+        emailService.sendPasswordResetEmail("admin@test.com", "http://localhost/reset?token=abc");
+
+        assertEquals("Bearer test-key", lastAuthorization.get());
+        assertTrue(lastBody.get().contains("\"to\":\"admin@test.com\""));
+        assertTrue(lastBody.get().contains("http://localhost/reset?token=abc"));
+        assertEquals(1, meterRegistry.get("email.send").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void sendPasswordResetEmail_SlowProvider_TimesOut() {
+        delayMillis.set(2_000);
+
+        long start = System.nanoTime();
+        assertThrows(EmailSendException.class,
+                () -> emailService.sendPasswordResetEmail("admin@test.com", "http://localhost/reset"));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1_500);
+        assertEquals(1, meterRegistry.get("email.send").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void sendPasswordResetEmail_RepeatedServerErrors_OpenCircuitAndFailFast() {
+        status.set(503);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(EmailSendException.class,
+                    () -> emailService.sendPasswordResetEmail("admin@test.com", "http://localhost/reset"));
+        }
+
+        assertThrows(EmailSendException.class,
+                () -> emailService.sendPasswordResetEmail("admin@test.com", "http://localhost/reset"));
+
+        assertEquals(2, requests.get());
+        assertEquals(1.0, meterRegistry.get("email.circuit_breaker.rejections").counter().count());
+        assertEquals(CircuitBreaker.State.OPEN.ordinal(),
+                meterRegistry.get("email.circuit_breaker.state").gauge().value());
+    }
+
+    @Test
+    void sendPasswordResetEmail_AfterOpenPeriod_TrialCallClosesCircuit() {
+        status.set(503);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(EmailSendException.class,
+                    () -> emailService.sendPasswordResetEmail("admin@test.com", "http://localhost/reset"));
+        }
+        status.set(200);
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        emailService.sendPasswordResetEmail("admin@test.com", "http://localhost/reset");
+        emailService.sendPasswordResetEmail("admin@test.com", "http://localhost/reset");
+
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    void sendPasswordResetEmail_ClientErrors_DoNotOpenCircuit() {
+        status.set(422);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(EmailSendException.class,
+                    () -> emailService.sendPasswordResetEmail("admin@test.com", "http://localhost/reset"));
+        }
+
+        assertEquals(3, requests.get());
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        lastAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+        lastBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        try {
+            Thread.sleep(delayMillis.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] response = "{\"id\":\"email-1\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status.get(), response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+}
@@ -41,6 +41,32 @@ class InputSanitizerTest {
         assertEquals("hello", result);
     }
 
+    @Test
+    void sanitize_ReturnsSameInstanceWhenUnchanged() {
+        String input = "Plain text with > and & but no tags";
+        assertSame(input, sanitizer.sanitize(input));
+    }
+
+    @Test
+    void sanitize_RemovesControlCharacters() {
+        assertEquals("ab", sanitizer.sanitize("a\u0000\u0007b\u007F"));
+    }
+
+    @Test
+    void sanitize_KeepsUnclosedAngleBracket() {
+        assertEquals("a < b", sanitizer.sanitize("a < b"));
+    }
+
+    @Test
+    void sanitize_MultilineScriptKeepsOnlyBodyText() {
+        assertEquals("alert(1)\nHello", sanitizer.sanitize("<script>alert(1)\n</script>Hello"));
+    }
+
+    @Test
+    void sanitize_TagSplitByScriptBlockIsRemoved() {
+        assertEquals("Hello", sanitizer.sanitize("<b<script>x</script>>Hello"));
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     @ValueSource(strings = {"  ", "\t", "\n"})
@@ -0,0 +1,76 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtService jwtService = new JwtService(SECRET, 60_000L, new VerifiedTokenCache(16), meterRegistry);
+
+    @Test
+    void verify_ValidToken_ReturnsSubjectAndExpiry() {
+        String token = jwtService.generateToken("admin");
+
+        VerifiedToken verified = jwtService.verify(token);
+
+        assertEquals("admin", verified.subject());
+        assertTrue(verified.expiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void verify_TokenSignedWithOtherKey_ThrowsException() {
+        String token = new JwtService("another-secret-key-that-is-long-enough-for-hs256", 60_000L, new VerifiedTokenCache(16), new SimpleMeterRegistry()).generateToken("admin");
+
+        assertThrows(SignatureException.class, () -> jwtService.verify(token));
+    }
+
+    @Test
+    void verify_ExpiredToken_ThrowsException() {
+        String token = new JwtService(SECRET, -1_000L, new VerifiedTokenCache(16), new SimpleMeterRegistry()).generateToken("admin");
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(token));
+    }
+
+    @Test
+    void validateToken_ChecksSubject() {
+        String token = jwtService.generateToken("admin");
+
+        assertTrue(jwtService.validateToken(token, "admin"));
+        assertFalse(jwtService.validateToken(token, "someone-else"));
+    }
+
+    @Test
+    void verify_RevokedToken_ThrowsException() {
+        String token = jwtService.generateToken("admin");
+        jwtService.verify(token);
+
+        jwtService.revokeToken(token);
+
+        assertThrows(JwtException.class, () -> jwtService.verify(token));
+    }
+
+    @Test
+    void verify_RecordsTimingByResult() {
+        String token = jwtService.generateToken("admin");
+        String forged = new JwtService("another-secret-key-that-is-long-enough-for-hs256", 60_000L,
+                new VerifiedTokenCache(16), new SimpleMeterRegistry()).generateToken("admin");
+
+        jwtService.verify(token);
+        jwtService.verify(token);
+        assertThrows(JwtException.class, () -> jwtService.verify(forged));
+
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("result", "verified").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("result", "cached").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("result", "rejected").timer().count());
+    }
+}
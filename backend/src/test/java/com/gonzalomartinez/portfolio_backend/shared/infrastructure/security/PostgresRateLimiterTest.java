@@ -0,0 +1,166 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PostgresRateLimiterTest {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final RateLimiter fallback = mock(RateLimiter.class);
+    private final AtomicLong clock = new AtomicLong();
+    private PostgresRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLeaseSize(5);
+        properties.setLeaseTtlMillis(1_000);
+        properties.setStoreRetryMillis(5_000);
+        limiter = new PostgresRateLimiter(jdbcTemplate, fallback, clock::get, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void tryConsume_ServesFromLocalLeaseUntilExhausted() {
+        when(jdbcTemplate.queryForObject(anyString(), anyMap(), eq(Integer.class))).thenReturn(5);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryConsume("public:1.2.3.4", 50, 5));
+        }
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), anyMap(), eq(Integer.class));
+
+        limiter.tryConsume("public:1.2.3.4", 50, 5);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), anyMap(), eq(Integer.class));
+    }
+
+    @Test
+    void tryConsume_RequestsLeaseNoLargerThanCapacity() {
+        when(jdbcTemplate.queryForObject(anyString(), anyMap(), eq(Integer.class))).thenReturn(2);
+
+        limiter.tryConsume("admin:1.2.3.4", 2, 1);
+
+        verify(jdbcTemplate).queryForObject(anyString(), argThat((Map<String, ?> params) ->
+                params.get("lease").equals(2) && params.get("key").equals("admin:1.2.3.4")), eq(Integer.class));
+    }
+
+    @Test
+    void tryConsume_WhenStoreGrantsNothing_DeniesWithoutAskingAgainUntilNextToken() {
+        when(jdbcTemplate.queryForObject(anyString(), anyMap(), eq(Integer.class))).thenReturn(0);
+
+        assertFalse(limiter.tryConsume("public:5.6.7.8", 50, 5));
+        assertFalse(limiter.tryConsume("public:5.6.7.8", 50, 5));
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), anyMap(), eq(Integer.class));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        limiter.tryConsume("public:5.6.7.8", 50, 5);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), anyMap(), eq(Integer.class));
+    }
+
+    @Test
+    void tryConsume_ExpiredLeaseIsRenewedFromStore() {
+        when(jdbcTemplate.queryForObject(anyString(), anyMap(), eq(Integer.class))).thenReturn(5);
+        limiter.tryConsume("public:9.9.9.9", 50, 5);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.tryConsume("public:9.9.9.9", 50, 5);
+
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), anyMap(), eq(Integer.class));
+    }
+
+    @Test
+    void tryConsume_WhenStoreFails_FallsBackToLocalLimiter() {
+        when(jdbcTemplate.queryForObject(anyString(), anyMap(), eq(Integer.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        when(fallback.tryConsume("public:1.1.1.1", 50, 5)).thenReturn(true);
+
+        assertTrue(limiter.tryConsume("public:1.1.1.1", 50, 5));
+        verify(fallback).tryConsume("public:1.1.1.1", 50, 5);
+    }
+
+    @Test
+    void tryConsume_AfterStoreFailure_StaysOnFallbackUntilRetryWindowPasses() {
+        when(jdbcTemplate.queryForObject(anyString(), anyMap(), eq(Integer.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(5);
+        when(fallback.tryConsume(anyString(), anyInt(), anyInt())).thenReturn(true);
+
+        limiter.tryConsume("public:1.1.1.1", 50, 5);
+        limiter.tryConsume("public:2.2.2.2", 50, 5);
+        limiter.tryConsume("admin:3.3.3.3", 100, 10);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), anyMap(), eq(Integer.class));
+        verify(fallback, times(3)).tryConsume(anyString(), anyInt(), anyInt());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertTrue(limiter.tryConsume("public:1.1.1.1", 50, 5));
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), anyMap(), eq(Integer.class));
+        verify(fallback, times(3)).tryConsume(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void tryConsume_TwoInstancesBelowRefillRate_NeverReject() {
+        Map<String, double[]> buckets = new HashMap<>();
+        when(jdbcTemplate.queryForObject(anyString(), anyMap(), eq(Integer.class)))
+                .thenAnswer(invocation -> leaseFromBucket(buckets, invocation.getArgument(1)));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLeaseSize(5);
+        properties.setLeaseTtlMillis(1_000);
+        PostgresRateLimiter other =
+                new PostgresRateLimiter(jdbcTemplate, fallback, clock::get, properties, new SimpleMeterRegistry());
+
+        // For two minutes one instance sees a request every 300 ms and the other one a second: about 4.3 a second
+        // against a refill of 5, so the shared bucket must never run dry
+        for (int tick = 0; tick < 1_200; tick++) {
+            if (tick % 3 == 0) {
+                assertTrue(limiter.tryConsume("public:1.2.3.4", 50, 5), "busy instance rejected at tick " + tick);
+            }
+            if (tick % 10 == 1) {
+                assertTrue(other.tryConsume("public:1.2.3.4", 50, 5), "quiet instance rejected at tick " + tick);
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void sweep_ReturnsUnusedTokensOfIdleLeases() {
+        when(jdbcTemplate.queryForObject(anyString(), anyMap(), eq(Integer.class))).thenReturn(5);
+        limiter.tryConsume("public:1.2.3.4", 50, 5);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.sweep();
+
+        verify(jdbcTemplate).update(contains(":unused"), argThat((Map<String, ?> params) ->
+                params.get("key").equals("public:1.2.3.4") && params.get("unused").equals(4)));
+        assertEquals(0, limiter.localLeaseCount());
+    }
+
+    // Same arithmetic as LEASE_SQL, against an in-memory bucket: {tokens, refilled at}
+    private int leaseFromBucket(Map<String, double[]> buckets, Map<String, ?> params) {
+        int capacity = (Integer) params.get("capacity");
+        int lease = Math.min((Integer) params.get("lease"), capacity);
+        double now = clock.get() / 1e9;
+        double[] bucket = buckets.get((String) params.get("key"));
+        if (bucket == null) {
+            buckets.put((String) params.get("key"), new double[] {capacity - lease, now});
+            return lease;
+        }
+        double available = Math.min(capacity,
+                bucket[0] + (Integer) params.get("unused") + (now - bucket[1]) * (Integer) params.get("refillRate"));
+        int granted = (int) Math.min(lease, Math.floor(available));
+        bucket[0] = available - granted;
+        bucket[1] = now;
+        return granted;
+    }
+}
@@ -1,12 +1,21 @@
 package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
 
+import com.gonzalomartinez.portfolio_backend.shared.infrastructure.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TokenBucketRateLimiterTest {
 
-    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter();
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(new RateLimitProperties(), new SimpleMeterRegistry());
 
     @Test
     void tryConsume_AllowsRequestsWithinCapacity() {
@@ -37,4 +46,114 @@ class TokenBucketRateLimiterTest {
         }
         assertFalse(limiter.tryConsume("full-key", 10, 0));
     }
+
+    @Test
+    void tryConsume_RefillsWithSubSecondGranularity() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketRateLimiter timedLimiter = limiterWithClock(clock);
+
+        assertTrue(timedLimiter.tryConsume("sub-second-key", 1, 10));
+        assertFalse(timedLimiter.tryConsume("sub-second-key", 1, 10));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        assertFalse(timedLimiter.tryConsume("sub-second-key", 1, 10));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue(timedLimiter.tryConsume("sub-second-key", 1, 10));
+    }
+
+    @Test
+    void tryConsume_RefillNeverExceedsCapacity() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketRateLimiter timedLimiter = limiterWithClock(clock);
+        timedLimiter.tryConsume("capped-key", 2, 1);
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        assertTrue(timedLimiter.tryConsume("capped-key", 2, 1));
+        assertTrue(timedLimiter.tryConsume("capped-key", 2, 1));
+        assertFalse(timedLimiter.tryConsume("capped-key", 2, 1));
+    }
+
+    @Test
+    void tryConsume_UnderContention_GrantsExactlyCapacity() throws InterruptedException {
+        int threads = 8;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryConsume("shared-nat-key", 500, 0)) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(500, granted.get());
+    }
+
+    @Test
+    void evictStaleEntries_RemovesIdleBuckets() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketRateLimiter timedLimiter = limiterWithClock(clock);
+        timedLimiter.tryConsume("idle-key", 1, 0);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(120));
+        timedLimiter.evictStaleEntries(60);
+
+        assertTrue(timedLimiter.tryConsume("idle-key", 1, 0));
+    }
+
+    @Test
+    void tryConsume_AtMaxBuckets_EvictsInsteadOfGrowing() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TokenBucketRateLimiter boundedLimiter = new TokenBucketRateLimiter(System::nanoTime, 100, 600, 60, registry);
+
+        for (int i = 0; i < 1_000; i++) {
+            boundedLimiter.tryConsume("rotating-ip-" + i, 5, 1);
+        }
+
+        int size = boundedLimiter.size();
+        assertTrue(size <= 100);
+        assertEquals(1_000 - size, registry.get("rate_limiter.evictions").tag("reason", "capacity").counter().count());
+        assertEquals(size, registry.get("rate_limiter.buckets").gauge().value());
+    }
+
+    @Test
+    void tryConsume_AtMaxBuckets_KeepsRecentlyUsedBuckets() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketRateLimiter boundedLimiter =
+                new TokenBucketRateLimiter(clock::get, 100, 600, 60, new SimpleMeterRegistry());
+        boundedLimiter.tryConsume("busy-ip", 1, 0);
+
+        for (int i = 0; i < 1_000; i++) {
+            clock.addAndGet(1_000);
+            boundedLimiter.tryConsume("busy-ip", 1, 0);
+            boundedLimiter.tryConsume("rotating-ip-" + i, 5, 1);
+        }
+
+        assertFalse(boundedLimiter.tryConsume("busy-ip", 1, 0));
+    }
+
+    @Test
+    void tryConsume_WhenDenied_CountsRejection() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TokenBucketRateLimiter countingLimiter = new TokenBucketRateLimiter(System::nanoTime, 100, 600, 60, registry);
+
+        countingLimiter.tryConsume("rejected-key", 1, 0);
+        countingLimiter.tryConsume("rejected-key", 1, 0);
+
+        assertEquals(1, registry.get("rate_limiter.rejections").counter().count());
+    }
+
+    private static TokenBucketRateLimiter limiterWithClock(AtomicLong clock) {
+        return new TokenBucketRateLimiter(clock::get, 1_000, 600, 60, new SimpleMeterRegistry());
+    }
 }
@@ -0,0 +1,67 @@
+package com.gonzalomartinez.portfolio_backend.shared.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(2, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void keyFor_DoesNotContainToken() {
+        String key = cache.keyFor("header.payload.signature");
+
+        assertEquals(64, key.length());
+        assertFalse(key.contains("payload"));
+        assertEquals(key, cache.keyFor("header.payload.signature"));
+    }
+
+    @Test
+    void get_ReturnsCachedTokenUntilExpiry() {
+        VerifiedToken token = new VerifiedToken("admin", NOW.plusSeconds(60));
+        cache.put("live", token);
+
+        assertSame(token, cache.get("live"));
+    }
+
+    @Test
+    void get_ExpiredToken_IsEvicted() {
+        cache.put("expired", new VerifiedToken("admin", NOW));
+
+        assertNull(cache.get("expired"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_AtCapacity_EvictsExpiredBeforeRefusing() {
+        cache.put("a", new VerifiedToken("admin", NOW.minus(Duration.ofSeconds(1))));
+        cache.put("b", new VerifiedToken("admin", NOW.plusSeconds(60)));
+
+        cache.put("c", new VerifiedToken("admin", NOW.plusSeconds(60)));
+        cache.put("d", new VerifiedToken("admin", NOW.plusSeconds(60)));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("c"));
+        assertNull(cache.get("d"));
+    }
+
+    @Test
+    void revoke_RemovesEntryAndBlocksRecaching() {
+        VerifiedToken token = new VerifiedToken("admin", NOW.plusSeconds(60));
+        cache.put("revoked", token);
+
+        cache.revoke("revoked", token.expiresAt());
+        cache.put("revoked", token);
+
+        assertTrue(cache.isRevoked("revoked"));
+        assertNull(cache.get("revoked"));
+    }
+}
@@ -1,9 +1,16 @@
 package com.gonzalomartinez.portfolio_backend.skill.application;
 
+import com.gonzalomartinez.portfolio_backend.portfolio.application.GetPortfolioSnapshotUseCase;
+import com.gonzalomartinez.portfolio_backend.portfolio.application.PortfolioChangeNotifierPort;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSection;
+import com.gonzalomartinez.portfolio_backend.portfolio.domain.PortfolioSnapshot;
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.ResourceNotFoundException;
 import com.gonzalomartinez.portfolio_backend.skill.domain.Skill;
 import com.gonzalomartinez.portfolio_backend.skill.domain.SkillRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.shared.application.SanitizerPort;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchRequest;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.BatchResult;
+import com.gonzalomartinez.portfolio_backend.shared.application.dto.ReorderRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,12 +20,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +40,12 @@ class SkillUseCaseServiceTest {
     @Mock
     private SanitizerPort inputSanitizer;
 
+    @Mock
+    private GetPortfolioSnapshotUseCase portfolioSnapshot;
+
+    @Mock
+    private PortfolioChangeNotifierPort changeNotifier;
+
     @InjectMocks
     private SkillUseCaseService skillService;
 
@@ -100,7 +115,7 @@ class SkillUseCaseServiceTest {
 
     @Test
     void createSkill_WithNullOrder_SetsNextOrder() {
-        when(skillRepository.findMaxOrder()).thenReturn(5);
+        when(skillRepository.nextOrders(1)).thenReturn(List.of(6));
         when(skillRepository.save(any(Skill.class))).thenReturn(skill);
 
         SkillDto dto = new SkillDto(
@@ -109,12 +124,12 @@ class SkillUseCaseServiceTest {
 
         skillService.createSkill(dto);
 
-        verify(skillRepository).findMaxOrder();
+        verify(skillRepository).nextOrders(1);
     }
 
     @Test
-    void createSkill_WithNullOrEmptyRepo_OrderIsOne() {
-        when(skillRepository.findMaxOrder()).thenReturn(null);
+    void createSkill_WithNullOrder_TakesOrderFromSequence() {
+        when(skillRepository.nextOrders(1)).thenReturn(List.of(1));
         when(skillRepository.save(any(Skill.class))).thenAnswer(i -> i.getArgument(0));
 
         SkillDto dto = new SkillDto(
@@ -128,8 +143,7 @@ class SkillUseCaseServiceTest {
 
     @Test
     void updateSkill_WhenFound_ReturnsUpdatedDto() {
-        when(skillRepository.existsById(skillId)).thenReturn(true);
-        when(skillRepository.save(any(Skill.class))).thenReturn(skill);
+        when(skillRepository.update(any(Skill.class))).thenReturn(Optional.of(skill));
 
         SkillDto dto = new SkillDto(
                 null, "Java 21", "Java 21", 95, "Backend", null, 1
@@ -138,12 +152,12 @@ class SkillUseCaseServiceTest {
         SkillDto result = skillService.updateSkill(skillId, dto);
 
         assertNotNull(result);
-        verify(skillRepository).save(any(Skill.class));
+        verify(skillRepository).update(any(Skill.class));
     }
 
     @Test
     void updateSkill_WhenNotFound_ThrowsException() {
-        when(skillRepository.existsById(skillId)).thenReturn(false);
+        when(skillRepository.update(any(Skill.class))).thenReturn(Optional.empty());
 
         SkillDto dto = new SkillDto(
                 null, "Test", "Test", 50, null, null, null
@@ -155,7 +169,7 @@ class SkillUseCaseServiceTest {
 
     @Test
     void deleteSkill_WhenExists_DeletesSuccessfully() {
-        when(skillRepository.existsById(skillId)).thenReturn(true);
+        when(skillRepository.deleteById(skillId)).thenReturn(true);
 
         skillService.deleteSkill(skillId);
 
@@ -164,10 +178,148 @@ class SkillUseCaseServiceTest {
 
     @Test
     void deleteSkill_WhenNotFound_ThrowsException() {
-        when(skillRepository.existsById(skillId)).thenReturn(false);
+        when(skillRepository.deleteById(skillId)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> skillService.deleteSkill(skillId));
+        verify(skillRepository).deleteById(skillId);
+    }
+
+    @Test
+    void getPublishedSkills_ReadsFromSnapshot() {
+        when(portfolioSnapshot.getSnapshot()).thenReturn(
+                new PortfolioSnapshot(null, List.of(), List.of(), List.of(skill), List.of(), 1, Instant.now()));
+
+        List<SkillDto> result = skillService.getPublishedSkills();
+
+        assertEquals(1, result.size());
+        assertEquals("Java", result.get(0).nameEn());
+        verifyNoInteractions(skillRepository);
+    }
+
+    @Test
+    void createSkill_NotifiesSkillsChanged() {
+        when(skillRepository.save(any(Skill.class))).thenReturn(skill);
+
+        skillService.createSkill(new SkillDto(null, "Java", "Java", 90, "Backend", null, 1));
+
+        verify(changeNotifier).sectionChanged(PortfolioSection.SKILLS);
+    }
+
+    @Test
+    void deleteSkill_WhenNotFound_DoesNotNotify() {
+        when(skillRepository.deleteById(skillId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class,
                 () -> skillService.deleteSkill(skillId));
-        verify(skillRepository, never()).deleteById(any());
+        verifyNoInteractions(changeNotifier);
+    }
+
+    @Test
+    void applySkillBatch_AppliesEveryOperationAndNotifiesOnce() {
+        UUID removedId = UUID.randomUUID();
+        when(skillRepository.deleteAllById(List.of(removedId))).thenReturn(List.of(removedId));
+        when(skillRepository.updateAll(anyList())).thenReturn(List.of(skill));
+        when(skillRepository.nextOrders(2)).thenReturn(List.of(5, 6));
+        when(skillRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        BatchResult<SkillDto> result = skillService.applySkillBatch(new BatchRequest<>(
+                List.of(new SkillDto(null, "Go", "Go", 60, "Backend", null, null),
+                        new SkillDto(null, "Rust", "Rust", 40, "Backend", null, null)),
+                List.of(new SkillDto(skillId, "Java", "Java", 90, "Backend", null, 1)),
+                List.of(removedId)));
+
+        assertEquals(2, result.created().size());
+        assertEquals(Integer.valueOf(5), result.created().get(0).order());
+        assertEquals(Integer.valueOf(6), result.created().get(1).order());
+        assertEquals(1, result.updated().size());
+        assertEquals(1, result.deleted());
+        verify(skillRepository, times(1)).nextOrders(2);
+        verify(changeNotifier, times(1)).sectionChanged(PortfolioSection.SKILLS);
+    }
+
+    @Test
+    void applySkillBatch_WhenUpdateTargetMissing_ThrowsException() {
+        UUID missingId = UUID.randomUUID();
+        when(skillRepository.updateAll(anyList())).thenReturn(List.of(skill));
+
+        BatchRequest<SkillDto> batch = new BatchRequest<>(null, List.of(
+                new SkillDto(skillId, "Java", "Java", 90, "Backend", null, 1),
+                new SkillDto(missingId, "Go", "Go", 60, "Backend", null, 2)), null);
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> skillService.applySkillBatch(batch));
+        assertTrue(ex.getMessage().contains(missingId.toString()));
+        verify(skillRepository, never()).saveAll(anyList());
+        verify(changeNotifier, never()).sectionChanged(any());
+    }
+
+    @Test
+    void applySkillBatch_WhenDeleteTargetMissing_ReportsOnlyMissingId() {
+        UUID missingId = UUID.randomUUID();
+        when(skillRepository.deleteAllById(List.of(skillId, missingId))).thenReturn(List.of(skillId));
+
+        BatchRequest<SkillDto> batch = new BatchRequest<>(null, null, List.of(skillId, missingId));
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> skillService.applySkillBatch(batch));
+        assertTrue(ex.getMessage().contains(missingId.toString()));
+        assertFalse(ex.getMessage().contains(skillId.toString()));
+        verify(changeNotifier, never()).sectionChanged(any());
+    }
+
+    @Test
+    void applySkillBatch_WhenIdIsBothUpdatedAndDeleted_ThrowsIllegalArgument() {
+        BatchRequest<SkillDto> batch = new BatchRequest<>(null,
+                List.of(new SkillDto(skillId, "Java", "Java", 90, "Backend", null, 1)),
+                List.of(skillId));
+
+        assertThrows(IllegalArgumentException.class, () -> skillService.applySkillBatch(batch));
+        verifyNoInteractions(skillRepository);
+    }
+
+    @Test
+    void reorderSkills_RewritesEveryPositionAndNotifiesOnce() {
+        UUID otherId = UUID.randomUUID();
+        List<UUID> ids = List.of(otherId, skillId);
+        when(skillRepository.count()).thenReturn(2L);
+        when(skillRepository.reorder(ids)).thenReturn(2);
+
+        skillService.reorderSkills(new ReorderRequest(ids));
+
+        verify(skillRepository).reorder(ids);
+        verify(changeNotifier, times(1)).sectionChanged(PortfolioSection.SKILLS);
+    }
+
+    @Test
+    void reorderSkills_WhenListIsPartial_ThrowsIllegalArgument() {
+        when(skillRepository.count()).thenReturn(3L);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> skillService.reorderSkills(new ReorderRequest(List.of(skillId))));
+        verify(skillRepository, never()).reorder(anyList());
+        verifyNoInteractions(changeNotifier);
+    }
+
+    @Test
+    void reorderSkills_WhenIdRepeated_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+                () -> skillService.reorderSkills(new ReorderRequest(List.of(skillId, skillId))));
+        verifyNoInteractions(skillRepository);
+    }
+
+    @Test
+    void reorderSkills_WhenIdUnknown_ReportsOnlyUnknownId() {
+        UUID unknownId = UUID.randomUUID();
+        List<UUID> ids = List.of(skillId, unknownId);
+        when(skillRepository.count()).thenReturn(2L);
+        when(skillRepository.reorder(ids)).thenReturn(1);
+        when(skillRepository.findExistingIds(ids)).thenReturn(List.of(skillId));
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> skillService.reorderSkills(new ReorderRequest(ids)));
+        assertTrue(ex.getMessage().contains(unknownId.toString()));
+        assertFalse(ex.getMessage().contains(skillId.toString()));
+        verifyNoInteractions(changeNotifier);
     }
 }
@@ -1,6 +1,8 @@
 package com.gonzalomartinez.portfolio_backend.user.application;
 
 import com.gonzalomartinez.portfolio_backend.shared.domain.exception.InvalidCredentialsException;
+import com.gonzalomartinez.portfolio_backend.user.domain.EmailOutboxRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetEmail;
 import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetToken;
 import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetTokenRepositoryPort;
 import com.gonzalomartinez.portfolio_backend.user.domain.User;
@@ -41,19 +43,17 @@ class AuthServiceTest {
     private PasswordResetTokenRepositoryPort resetTokenRepository;
 
     @Mock
-    private EmailSenderPort emailService;
+    private EmailOutboxRepositoryPort emailOutbox;
 
     @InjectMocks
     private AuthService authService;
 
     private static final String ADMIN_EMAIL = "admin@test.com";
-    private static final String FRONTEND_URL = "http://localhost:5173";
     private static final int TOKEN_EXPIRATION_MINUTES = 15;
 
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(authService, "adminEmail", ADMIN_EMAIL);
-        ReflectionTestUtils.setField(authService, "frontendUrl", FRONTEND_URL);
         ReflectionTestUtils.setField(authService, "tokenExpirationMinutes", TOKEN_EXPIRATION_MINUTES);
     }
 
@@ -97,8 +97,7 @@ class AuthServiceTest {
 
     @Test
     void validateToken_ValidToken_ReturnsTrue() {
-        when(jwtService.extractUsername("valid-token")).thenReturn("admin");
-        when(jwtService.validateToken("valid-token", "admin")).thenReturn(true);
+        when(jwtService.verifySubject("valid-token")).thenReturn("admin");
 
         boolean result = authService.validateToken("valid-token");
 
@@ -107,7 +106,7 @@ class AuthServiceTest {
 
     @Test
     void validateToken_InvalidSignature_ReturnsFalse() {
-        when(jwtService.extractUsername("invalid-token")).thenThrow(new RuntimeException("bad signature"));
+        when(jwtService.verifySubject("invalid-token")).thenThrow(new RuntimeException("bad signature"));
 
         boolean result = authService.validateToken("invalid-token");
 
@@ -115,9 +114,28 @@ class AuthServiceTest {
     }
 
     @Test
-    void forgotPassword_UserExists_CreatesTokenAndSendsEmail() {
+    void logout_RevokesToken() {
+        authService.logout("valid-token");
+
+        verify(jwtService).revokeToken("valid-token");
+    }
+
+    @Test
+    void logout_InvalidToken_DoesNotThrow() {
+        doThrow(new RuntimeException("bad signature")).when(jwtService).revokeToken("invalid-token");
+
+        assertDoesNotThrow(() -> authService.logout("invalid-token"));
+    }
+
+    @Test
+    void forgotPassword_UserExists_CreatesTokenAndQueuesEmail() {
         User user = new User(UUID.randomUUID(), "admin", "hashed", "ADMIN", LocalDateTime.now(), LocalDateTime.now());
+        UUID tokenId = UUID.randomUUID();
         when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user));
+        when(resetTokenRepository.save(any(PasswordResetToken.class))).thenAnswer(invocation -> {
+            PasswordResetToken token = invocation.getArgument(0);
+            return new PasswordResetToken(tokenId, token.tokenHash(), token.username(), token.expiresAt(), token.used());
+        });
 
         authService.forgotPassword("admin");
 
@@ -126,23 +144,24 @@ class AuthServiceTest {
         PasswordResetToken savedToken = tokenCaptor.getValue();
         assertEquals("admin", savedToken.username());
         assertFalse(savedToken.used());
-        assertNotNull(savedToken.token());
+        assertEquals(64, savedToken.tokenHash().length());
         assertTrue(savedToken.expiresAt().isAfter(LocalDateTime.now()));
 
-        ArgumentCaptor<String> linkCaptor = ArgumentCaptor.forClass(String.class);
-        verify(emailService).sendPasswordResetEmail(eq(ADMIN_EMAIL), linkCaptor.capture());
-        assertTrue(linkCaptor.getValue().contains("/admin/reset-password?token="));
-        assertTrue(linkCaptor.getValue().contains(savedToken.token()));
+        ArgumentCaptor<PasswordResetEmail> emailCaptor = ArgumentCaptor.forClass(PasswordResetEmail.class);
+        verify(emailOutbox).enqueue(emailCaptor.capture());
+        assertEquals(ADMIN_EMAIL, emailCaptor.getValue().recipient());
+        assertEquals(tokenId, emailCaptor.getValue().tokenId());
+        assertEquals(savedToken.expiresAt(), emailCaptor.getValue().expiresAt());
     }
 
     @Test
     void resetPassword_ValidToken_ResetsPassword() {
         PasswordResetToken resetToken = new PasswordResetToken(
-                UUID.randomUUID(), "valid-reset-token", "admin", LocalDateTime.now().plusMinutes(30), false
+                UUID.randomUUID(), PasswordResetToken.hash("valid-reset-token"), "admin", LocalDateTime.now().plusMinutes(30), false
         );
         User user = new User(UUID.randomUUID(), "admin", "old-hash", "ADMIN", LocalDateTime.now(), LocalDateTime.now());
 
-        when(resetTokenRepository.findByToken("valid-reset-token")).thenReturn(Optional.of(resetToken));
+        when(resetTokenRepository.findByTokenHash(PasswordResetToken.hash("valid-reset-token"))).thenReturn(Optional.of(resetToken));
         when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user));
         when(passwordEncoder.encode("new-password")).thenReturn("new-hash");
 
@@ -161,7 +180,7 @@ class AuthServiceTest {
 
     @Test
     void resetPassword_InvalidToken_ThrowsException() {
-        when(resetTokenRepository.findByToken("bad-token")).thenReturn(Optional.empty());
+        when(resetTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
 
         ResetPasswordRequest request = new ResetPasswordRequest("bad-token", "new-password");
 
@@ -0,0 +1,140 @@
+package com.gonzalomartinez.portfolio_backend.user.application;
+
+import com.gonzalomartinez.portfolio_backend.shared.domain.exception.EmailSendException;
+import com.gonzalomartinez.portfolio_backend.user.domain.EmailOutboxRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetEmail;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetToken;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetTokenRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmailOutboxServiceTest {
+
+    private static final int CONCURRENCY = 2;
+
+    private final EmailOutboxRepositoryPort outboxRepository = mock(EmailOutboxRepositoryPort.class);
+    private final PasswordResetTokenRepositoryPort resetTokenRepository = mock(PasswordResetTokenRepositoryPort.class);
+    private final EmailSenderPort emailSender = mock(EmailSenderPort.class);
+    private EmailOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        when(resetTokenRepository.reissue(any(), anyString(), any())).thenReturn(true);
+        outboxService = new EmailOutboxService(outboxRepository, resetTokenRepository, emailSender, "http://localhost",
+                10, CONCURRENCY, 3, Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofMinutes(5));
+    }
+
+    @Test
+    void dispatchDue_SentEmailsAreDeleted() {
+        PasswordResetEmail email = email(0);
+        when(outboxRepository.claimDue(10, 3, Duration.ofMinutes(2))).thenReturn(List.of(email));
+
+        assertEquals(1, outboxService.dispatchDue());
+
+        ArgumentCaptor<String> link = ArgumentCaptor.forClass(String.class);
+        verify(emailSender).sendPasswordResetEmail(eq("admin@test.com"), link.capture());
+        assertTrue(link.getValue().startsWith("http://localhost/admin/reset-password?token="));
+        String rawToken = link.getValue().substring(link.getValue().indexOf("token=") + "token=".length());
+        verify(resetTokenRepository).reissue(eq(email.tokenId()), eq(PasswordResetToken.hash(rawToken)), any());
+        verify(outboxRepository).delete(email.id());
+        verify(outboxRepository, never()).reschedule(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void dispatchDue_TokenUsedOrExpired_DeletesWithoutSending() {
+        PasswordResetEmail email = email(0);
+        when(outboxRepository.claimDue(anyInt(), anyInt(), any())).thenReturn(List.of(email));
+        when(resetTokenRepository.reissue(eq(email.tokenId()), anyString(), any())).thenReturn(false);
+
+        outboxService.dispatchDue();
+
+        verify(emailSender, never()).sendPasswordResetEmail(anyString(), anyString());
+        verify(outboxRepository).delete(email.id());
+    }
+
+    @Test
+    void dispatchDue_FailedEmailIsRescheduledWithBackoff() {
+        PasswordResetEmail email = email(1);
+        when(outboxRepository.claimDue(anyInt(), anyInt(), any())).thenReturn(List.of(email));
+        doThrow(new EmailSendException("503 from provider")).when(emailSender).sendPasswordResetEmail(anyString(), anyString());
+
+        outboxService.dispatchDue();
+
+        verify(outboxRepository).reschedule(email.id(), 2, Duration.ofMinutes(1), "503 from provider");
+        verify(outboxRepository, never()).delete(any());
+    }
+
+    @Test
+    void backoff_DoublesUpToTheMaximum() {
+        assertEquals(Duration.ofSeconds(30), outboxService.backoff(1));
+        assertEquals(Duration.ofSeconds(60), outboxService.backoff(2));
+        assertEquals(Duration.ofSeconds(240), outboxService.backoff(4));
+        assertEquals(Duration.ofMinutes(5), outboxService.backoff(5));
+        assertEquals(Duration.ofMinutes(5), outboxService.backoff(60));
+    }
+
+    @Test
+    void dispatchDue_SendsNoMoreThanTheConcurrencyLimitAtOnce() throws InterruptedException {
+        List<PasswordResetEmail> batch = List.of(email(0), email(0), email(0), email(0), email(0));
+        when(outboxRepository.claimDue(anyInt(), anyInt(), any())).thenReturn(batch);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch sent = new CountDownLatch(batch.size());
+        doAnswer(invocation -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            sent.countDown();
+            return null;
+        }).when(emailSender).sendPasswordResetEmail(anyString(), anyString());
+
+        outboxService.dispatchDue();
+
+        assertTrue(sent.await(1, TimeUnit.SECONDS));
+        assertTrue(peak.get() <= CONCURRENCY, "peak concurrency was " + peak.get());
+        verify(outboxRepository, times(batch.size())).delete(any());
+    }
+
+    @Test
+    void dispatchDue_LastAttemptFails_DeletesInsteadOfRescheduling() {
+        PasswordResetEmail email = email(2);
+        when(outboxRepository.claimDue(anyInt(), anyInt(), any())).thenReturn(List.of(email));
+        doThrow(new EmailSendException("503 from provider")).when(emailSender).sendPasswordResetEmail(anyString(), anyString());
+
+        outboxService.dispatchDue();
+
+        verify(outboxRepository).delete(email.id());
+        verify(outboxRepository, never()).reschedule(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void dispatchDue_TokenExpiresBeforeNextRetry_DeletesInsteadOfRescheduling() {
+        PasswordResetEmail email = new PasswordResetEmail(UUID.randomUUID(), "admin@test.com",
+                UUID.randomUUID(), LocalDateTime.now().plusSeconds(20), 0);
+        when(outboxRepository.claimDue(anyInt(), anyInt(), any())).thenReturn(List.of(email));
+        doThrow(new EmailSendException("503 from provider")).when(emailSender).sendPasswordResetEmail(anyString(), anyString());
+
+        outboxService.dispatchDue();
+
+        verify(outboxRepository).delete(email.id());
+        verify(outboxRepository, never()).reschedule(any(), anyInt(), any(), any());
+    }
+
+    private static PasswordResetEmail email(int attempts) {
+        return new PasswordResetEmail(UUID.randomUUID(), "admin@test.com", UUID.randomUUID(),
+                LocalDateTime.now().plusMinutes(15), attempts);
+    }
+}
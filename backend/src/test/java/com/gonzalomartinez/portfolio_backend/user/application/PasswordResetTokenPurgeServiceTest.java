@@ -0,0 +1,44 @@
+package com.gonzalomartinez.portfolio_backend.user.application;
+
+import com.gonzalomartinez.portfolio_backend.user.domain.EmailOutboxRepositoryPort;
+import com.gonzalomartinez.portfolio_backend.user.domain.PasswordResetTokenRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PasswordResetTokenPurgeServiceTest {
+
+    private final PasswordResetTokenRepositoryPort resetTokenRepository = mock(PasswordResetTokenRepositoryPort.class);
+    private final EmailOutboxRepositoryPort emailOutbox = mock(EmailOutboxRepositoryPort.class);
+    private final PasswordResetTokenPurgeService purgeService =
+            new PasswordResetTokenPurgeService(resetTokenRepository, emailOutbox, 100);
+
+    @Test
+    void purgeExpiredOrUsed_DeletesInChunksUntilOneComesBackShort() {
+        when(resetTokenRepository.deleteExpiredOrUsed(any(), eq(100))).thenReturn(100, 100, 37);
+
+        assertEquals(237, purgeService.purgeExpiredOrUsed());
+
+        verify(resetTokenRepository, times(3)).deleteExpiredOrUsed(any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    void purgeExpiredOrUsed_NothingToDelete_StopsAfterOneChunk() {
+        assertEquals(0, purgeService.purgeExpiredOrUsed());
+
+        verify(resetTokenRepository, times(1)).deleteExpiredOrUsed(any(), eq(100));
+    }
+
+    @Test
+    void purgeExpiredOrUsed_AlsoDeletesQueuedEmailsWithExpiredTokens() {
+        when(emailOutbox.deleteExpired(any(), eq(100))).thenReturn(100, 4);
+
+        purgeService.purgeExpiredOrUsed();
+
+        verify(emailOutbox, times(2)).deleteExpired(any(LocalDateTime.class), eq(100));
+    }
+}